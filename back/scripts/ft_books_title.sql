@@ -0,0 +1,12 @@
+-- books.title FULLTEXT(ngram) 인덱스 생성 (운영 작업, 앱 기동 시 실행하지 않음)
+--  - BookFullTextIndexInitializer 는 이 인덱스가 있을 때만 MATCH ... AGAINST 검색을 쓰고, 없으면 LIKE 로 대체한다.
+--  - InnoDB 의 FULLTEXT 인덱스 추가는 DML 을 허용하지 않으므로(LOCK=SHARED) 트래픽이 적은 시간에 실행하거나
+--    도서 수가 많으면 pt-online-schema-change / gh-ost 로 적용한다.
+--  - 적용 후 애플리케이션을 재기동하면 FULLTEXT 검색으로 전환된다.
+--
+-- 실행 예:
+--   mysql -h <host> -u <user> -p library < scripts/ft_books_title.sql
+
+ALTER TABLE books
+    ADD FULLTEXT INDEX ft_books_title (title) WITH PARSER ngram,
+    ALGORITHM = INPLACE, LOCK = SHARED;
@@ -0,0 +1,39 @@
+#!/bin/bash
+# JMH 결과(JSON) 두 개를 벤치마크별로 비교
+#  - 사용법: scripts/jmh-compare.sh <기준 results.json> <비교 results.json> [허용 악화율%, 기본 10]
+#  - AverageTime 결과(작을수록 좋음) 기준, 허용치를 넘게 느려진 항목이 있으면 종료 코드 1
+#  - 입력 파일이 없거나 JSON 이 잘못되면 종료 코드 2
+set -euo pipefail
+
+if [ $# -lt 2 ]; then
+  echo "사용법: $0 <기준 results.json> <비교 results.json> [허용 악화율%]" >&2
+  exit 2
+fi
+
+BASE=$1
+HEAD=$2
+THRESHOLD=${3:-10}
+
+# jq 실패(파일 없음/JSON 오류)는 비교 결과와 구분해 종료 코드 2
+REPORT=$(jq -r -n --slurpfile base "$BASE" --slurpfile head "$HEAD" --argjson threshold "$THRESHOLD" '
+  def key: .benchmark + (if .params then " " + (.params | to_entries | map("\(.key)=\(.value)") | join(",")) else "" end);
+  ($base[0] | map({key: key, value: .primaryMetric}) | from_entries) as $b
+  | $head[0][]
+  | key as $k
+  | .primaryMetric as $h
+  | ($b[$k]) as $o
+  | if $o == null then
+      "NEW        \($k)  \($h.score) \($h.scoreUnit)"
+    else
+      ((($h.score - $o.score) / $o.score) * 100) as $pct
+      | (if $pct > $threshold then "REGRESSION" elif $pct < -$threshold then "IMPROVED  " else "same      " end)
+        + " \($k)  \($o.score | . * 1000 | round / 1000) -> \($h.score | . * 1000 | round / 1000) \($h.scoreUnit)  (\($pct | . * 10 | round / 10)%)"
+    end
+') || { echo "JMH 결과 비교 실패: $BASE, $HEAD" >&2; exit 2; }
+
+echo "$REPORT"
+
+if grep -q '^REGRESSION' <<< "$REPORT"; then
+  exit 1
+fi
+exit 0
@@ -0,0 +1,108 @@
+package com.example.back.benchmark;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.back.BackApplication;
+import com.example.back.DTO.BookImportRequest.BookImportItem;
+import com.example.back.DTO.BookImportResponse;
+import com.example.back.entity.User;
+import com.example.back.repository.CategoryRepository;
+import com.example.back.repository.UserRepository;
+import com.example.back.service.BookImportService;
+
+/**
+ * 도서 일괄 등록 (BookImportService 실제 경로: 검증 → JDBC 배치 → chunk 커밋 → BooksImportedEvent)
+ *  - 내장 H2 + 실제 Spring 컨텍스트(application-jmh.yaml), 결과는 등록 1회(rows 건) 평균 시간 → rows/sec = rows / 시간
+ *  - 행은 Iterator 로 하나씩 만들어 넘기므로 CLI 일괄 등록(BookImportRunner)과 같이 chunk 하나만 메모리에 둔다.
+ *  - 1M 행: ./gradlew jmh -PjmhIncludes=BookImport 후 JMH 파라미터 rows=1000000
+ *    (MySQL 의 rewriteBatchedStatements 효과는 H2 에서 재현되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BookImportBenchmark {
+
+    private static final String USER_ID = "bench_import_user";
+
+    @Param({"100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private BookImportService bookImportService;
+    private long categoryId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackApplication.class)
+                .profiles("jmh")
+                .properties("app.seed.profile=NONE")
+                .run();
+
+        bookImportService = context.getBean(BookImportService.class);
+        categoryId = context.getBean(CategoryRepository.class).findAll().get(0).getId();
+
+        // 등록 작성자 (로그인하지 않으므로 비밀번호는 임의 값)
+        User user = new User();
+        user.setId(USER_ID);
+        user.setName("벤치마크");
+        user.setPw(UUID.randomUUID().toString());
+        context.getBean(UserRepository.class).save(user);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookImportResponse importBooks() {
+        return bookImportService.importBooks(USER_ID, new GeneratedBooks(rows, categoryId));
+    }
+
+    // rows 건을 필요할 때마다 만들어 반환
+    private static final class GeneratedBooks implements Iterator<BookImportItem> {
+
+        private final int rows;
+        private final long categoryId;
+        private int next = 0;
+
+        GeneratedBooks(int rows, long categoryId) {
+            this.rows = rows;
+            this.categoryId = categoryId;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < rows;
+        }
+
+        @Override
+        public BookImportItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int i = next++;
+            return new BookImportItem(
+                    "벤치마크 도서 제목 " + i,
+                    "벤치마크 도서 설명입니다.",
+                    "벤치마크 도서 내용입니다. " + i + "번째 행입니다.",
+                    categoryId
+            );
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.back.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.back.BackApplication;
+import com.example.back.DTO.BookBatchResponse;
+import com.example.back.DTO.BookCursorResponse;
+import com.example.back.DTO.BookDetailResponse;
+import com.example.back.DTO.BookListResponse;
+import com.example.back.DTO.BookSuggestResponse;
+import com.example.back.repository.BookRepository;
+import com.example.back.service.BookDetailCache;
+import com.example.back.service.BookService;
+
+/**
+ * BookService 조회 경로 (내장 H2 + 실제 Spring 컨텍스트)
+ *  - application-jmh.yaml 로 기동하고 app.seed.profile 규모만큼 시딩한 뒤 측정한다.
+ *  - 규모 변경: ./gradlew jmh -PjmhIncludes=BookService 후 JMH 파라미터 seedProfile=MEDIUM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookServiceBenchmark {
+
+    @Param({"SMALL"})
+    private String seedProfile;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private BookDetailCache bookDetailCache;
+    private long maxBookId;
+    private List<Long> batchIds;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackApplication.class)
+                .profiles("jmh")
+                .properties("app.seed.profile=" + seedProfile)
+                .run();
+
+        bookService = context.getBean(BookService.class);
+        bookDetailCache = context.getBean(BookDetailCache.class);
+        maxBookId = context.getBean(BookRepository.class).findMaxId();
+        batchIds = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookListResponse listFirstPage() {
+        return bookService.getBooks(0, 20, null);
+    }
+
+    @Benchmark
+    public BookCursorResponse listCursorFirstPage() {
+        return bookService.getBooksAfter("", 20, null);
+    }
+
+    @Benchmark
+    public BookListResponse searchWithoutCount() {
+        return bookService.searchBooksByTitle("바다", 0, 20, false);
+    }
+
+    @Benchmark
+    public BookSuggestResponse suggest() {
+        return bookService.suggestTitles("바ㄷ", 10);
+    }
+
+    @Benchmark
+    public BookDetailResponse detailCacheHit() {
+        return bookService.getBookDetail(1L);
+    }
+
+    // 캐시를 비운 뒤 조회 → 매번 DB 조회 (도서 + 작성자 + 카테고리 한 번에)
+    @Benchmark
+    public BookDetailResponse detailCacheMiss() {
+        long bookId = ThreadLocalRandom.current().nextLong(1, maxBookId + 1);
+        bookDetailCache.evict(bookId);
+        return bookService.getBookDetail(bookId);
+    }
+
+    @Benchmark
+    public BookBatchResponse batchDetail() {
+        return bookService.getBookDetails(batchIds);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.back.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.example.back.DTO.BookDetailResponse;
+import com.example.back.DTO.BookListResponse;
+import com.example.back.entity.Book;
+import com.example.back.entity.Category;
+import com.example.back.entity.User;
+import com.example.back.repository.BookListItemView;
+
+/**
+ * 엔티티/프로젝션 → 응답 DTO 변환 비용
+ *  - BookListResponse.from(Page<Book>)      : 엔티티 목록 변환
+ *  - BookListResponse.fromSlice(Slice<View>) : 현재 목록 API 가 쓰는 프로젝션 변환
+ *  - BookDetailResponse.from(Book)          : 상세 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private Page<Book> bookPage;
+    private Slice<BookListItemView> viewSlice;
+    private Map<Long, String> categoryNames;
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId("admin");
+        user.setName("관리자");
+
+        Category category = new Category("여행");
+        category.setId(9L);
+
+        List<Book> books = new ArrayList<>(pageSize);
+        List<BookListItemView> views = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Book b = new Book();
+            b.setId((long) i + 1);
+            b.setUser(user);
+            b.setCategoryId(category);
+            b.setTitle("제주에서 보낸 " + i + "일");
+            b.setDescription("조용한 바다를 둘러싼 섬의 이야기.");
+            b.setContent("그날의 바다는 아직도 기억에 남아 있다. " + i);
+            b.setImageUrl("https://picsum.photos/200/320?random=" + i);
+            b.setCreated_at(LocalDateTime.now());
+            books.add(b);
+            views.add(new View(b));
+        }
+
+        bookPage = new PageImpl<>(books, PageRequest.of(0, pageSize), 100_000);
+        viewSlice = new SliceImpl<>(views, PageRequest.of(0, pageSize), true);
+        categoryNames = Map.of(9L, "여행");
+        book = books.get(0);
+    }
+
+    @Benchmark
+    public BookListResponse listFromEntities() {
+        return BookListResponse.from(bookPage);
+    }
+
+    @Benchmark
+    public BookListResponse listFromProjection() {
+        return BookListResponse.fromSlice(viewSlice, 100_000L, categoryNames::get);
+    }
+
+    @Benchmark
+    public BookDetailResponse detailFromEntity() {
+        return BookDetailResponse.from(book);
+    }
+
+    // 목록 프로젝션 (BookListItemView) 구현
+    private record View(Long bookId, String title, Long categoryId, String imageUrl,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) implements BookListItemView {
+
+        View(Book b) {
+            this(b.getId(), b.getTitle(), b.getCategoryId().getId(), b.getImageUrl(), b.getCreated_at(), b.getUpdated_at());
+        }
+
+        @Override public Long getBookId() { return bookId; }
+        @Override public String getTitle() { return title; }
+        @Override public Long getCategoryId() { return categoryId; }
+        @Override public String getImageUrl() { return imageUrl; }
+        @Override public LocalDateTime getCreatedAt() { return createdAt; }
+        @Override public LocalDateTime getUpdatedAt() { return updatedAt; }
+    }
+}
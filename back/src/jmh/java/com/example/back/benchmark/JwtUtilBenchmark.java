@@ -0,0 +1,71 @@
+package com.example.back.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.back.jwt.JwtUtil;
+import com.example.back.jwt.JwtVerifier;
+import com.example.back.jwt.TokenRevocationList;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JwtUtil 토큰 생성/파싱/검증 (요청마다 JwtAuthFilter 에서 실행되는 경로)
+ *  - verifierCacheHit : JwtAuthFilter 가 현재 사용하는 JwtVerifier (폐기 목록 확인 + 같은 토큰 재사용 → Claims 캐시 적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "jmh-benchmark-jwt-secret-key-0123456789-abcdef";
+
+    private JwtUtil jwtUtil;
+    private JwtVerifier jwtVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // application.yaml 과 같은 만료 시간 (2시간 / 2주)
+        jwtUtil = new JwtUtil(SECRET, 7_200_000L, 1_209_600_000L);
+        token = jwtUtil.createAccessToken("admin");
+        // 폐기 목록은 비어 있는 상태 (Bloom filter 확인만, 저장소 사용 안 함)
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TokenRevocationList revocationList = new TokenRevocationList(null, registry, 100_000, 0.01);
+        jwtVerifier = new JwtVerifier(jwtUtil, revocationList, 10_000L, 300L, registry);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken("admin");
+    }
+
+    @Benchmark
+    public String getUserId() {
+        return jwtUtil.getUserId(token);
+    }
+
+    @Benchmark
+    public String validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String verifierCacheHit() {
+        return jwtVerifier.getUserId(token);
+    }
+
+    // 검증 + userId 추출을 따로 호출하던 이전 JwtAuthFilter 경로 (파싱 2회, 비교 기준)
+    @Benchmark
+    public String authFilterPath() {
+        jwtUtil.validateToken(token);
+        return jwtUtil.getUserId(token);
+    }
+}
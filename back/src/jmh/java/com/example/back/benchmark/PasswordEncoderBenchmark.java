@@ -0,0 +1,42 @@
+package com.example.back.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.back.config.PasswordEncoderConfig;
+
+/**
+ * 로그인/회원가입 경로의 비밀번호 해시 비용 (PasswordEncoderConfig 의 실제 인코더 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private PasswordEncoder passwordEncoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoderConfig().passwordEncoder();
+        encoded = passwordEncoder.encode("password1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("password1234", encoded);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("password1234");
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.back.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 도서 일괄 조회 응답 DTO
+ *  - books : 요청한 ids 순서 그대로의 결과 목록 (중복 id 는 한 번만)
+ *  - found / notFound : 찾은 도서 수 / 찾지 못한 도서 수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookBatchResponse {
+
+    private List<BookBatchItem> books;
+    private int found;
+    private int notFound;
+
+    /**
+     * 일괄 조회 결과 한 건
+     *  - bookId : 요청한 도서 ID
+     *  - found  : 존재 여부 (false 면 book = null)
+     *  - book   : 도서 상세 정보
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BookBatchItem {
+        private Long bookId;
+        private boolean found;
+        private BookDetailResponse book;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.back.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 방식 도서 목록 응답 DTO
+ *  - books      : 조회된 도서 목록 (BookListResponse.BookItem 재사용)
+ *  - nextCursor : 다음 페이지 요청 시 after 파라미터로 그대로 전달할 값 (마지막 페이지면 null)
+ *  - hasNext    : 다음 페이지 존재 여부
+ *  - 전체 건수(totalItems)는 COUNT 쿼리를 피하기 위해 제공하지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookCursorResponse {
+
+    private List<BookListResponse.BookItem> books;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -1,6 +1,7 @@
 package com.example.back.DTO;
 
 import com.example.back.entity.Book;
+import com.example.back.entity.CoverStatus;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,7 +18,9 @@ public class BookDetailResponse {
     private String content;
 
     private Long categoryId;
-    private String imageUrl;
+    private String imageUrl;           // 상세 화면용 400w 썸네일 (없으면 원본)
+    private String originalImageUrl;   // 원본 표지
+    private CoverStatus coverStatus;   // 표지 처리 상태 (PENDING 이면 잠시 후 다시 조회)
     private String ownerUser;
 
     private LocalDateTime createdAt;
@@ -30,6 +33,8 @@ public class BookDetailResponse {
                               String content,
                               Long categoryId,
                               String imageUrl,
+                              String originalImageUrl,
+                              CoverStatus coverStatus,
                               String ownerUser,
                               LocalDateTime createdAt,
                               LocalDateTime updatedAt) {
@@ -39,6 +44,8 @@ public class BookDetailResponse {
         this.content = content;
         this.categoryId = categoryId;
         this.imageUrl = imageUrl;
+        this.originalImageUrl = originalImageUrl;
+        this.coverStatus = coverStatus;
         this.ownerUser = ownerUser;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -51,7 +58,9 @@ public class BookDetailResponse {
                 .description(book.getDescription())
                 .content(book.getContent())
                 .categoryId(book.getCategoryId().getId())
-                .imageUrl(book.getImageUrl())
+                .imageUrl(book.getPreviewUrl() != null ? book.getPreviewUrl() : book.getImageUrl())
+                .originalImageUrl(book.getImageUrl())
+                .coverStatus(book.getCoverStatus())
                 .ownerUser(book.getUser().getId())
                 .createdAt(book.getCreated_at())
                 .updatedAt(book.getUpdated_at())
@@ -0,0 +1,31 @@
+package com.example.back.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 카탈로그 내보내기(NDJSON) 한 줄
+ *  - GET /api/books/export 응답의 각 줄이 이 객체 하나
+ *  - category : categoryId 의 이름 (CategoryDictionary)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookExportRow {
+
+    private Long bookId;
+    private String title;
+    private String description;
+    private String content;
+
+    private Long categoryId;
+    private String category;
+    private String imageUrl;
+    private String ownerUser;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package com.example.back.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 도서 일괄 등록 요청 DTO
+ *  - books : 등록할 도서 목록 (최대 app.books.import.max-rows 건)
+ *  - 표지 이미지는 일괄 등록 대상이 아님 (S3 업로드 없이 image_url = null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookImportRequest {
+
+    private List<BookImportItem> books;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BookImportItem {
+        private String title;
+        private String description;
+        private String content;
+        private Long categoryId;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.back.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 도서 일괄 등록 응답 DTO
+ *  - requested     : 요청 행 수
+ *  - imported      : 등록(커밋)된 행 수
+ *  - rejected      : 검증 실패로 건너뛴 행 수
+ *  - errors        : 건너뛴 행 목록 (앞에서부터 최대 100건)
+ *  - elapsedMs     : 처리 시간
+ *  - rowsPerSecond : 초당 등록 행 수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookImportResponse {
+
+    private long requested;
+    private long imported;
+    private long rejected;
+    private List<RejectedRow> errors;
+    private long elapsedMs;
+    private long rowsPerSecond;
+
+    /**
+     * 건너뛴 행 한 건
+     *  - index  : 요청 내 순번 (0부터)
+     *  - reason : 사유
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRow {
+        private long index;
+        private String reason;
+    }
+}
@@ -1,26 +1,35 @@
 package com.example.back.DTO;
 
 import com.example.back.entity.Book;
+import com.example.back.repository.BookListItemView;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 @Getter
 @NoArgsConstructor
 public class BookListResponse {
 
     private int page;
-    private int totalPages;
-    private long totalItems;
+    private Integer totalPages;   // COUNT 생략 모드(검색 count=false)에서는 null
+    private Long totalItems;      // COUNT 생략 모드(검색 count=false)에서는 null
+    private boolean hasNext;
     private List<BookItem> books;
 
     public BookListResponse(int page, int totalPages, long totalItems, List<BookItem> books) {
+        this(page, totalPages, totalItems, page + 1 < totalPages, books);
+    }
+
+    public BookListResponse(int page, Integer totalPages, Long totalItems, boolean hasNext, List<BookItem> books) {
         this.page = page;
         this.totalPages = totalPages;
         this.totalItems = totalItems;
+        this.hasNext = hasNext;
         this.books = books;
     }
 
@@ -40,10 +49,20 @@ public class BookListResponse {
             this.bookId = book.getId();
             this.title = book.getTitle();
             this.category = book.getCategoryId().getName();
-            this.imageUrl = book.getImageUrl();
+            this.imageUrl = book.getThumbnailUrl() != null ? book.getThumbnailUrl() : book.getImageUrl();
             this.createdAt = book.getCreated_at();
             this.updatedAt = book.getUpdated_at();
         }
+
+        // 목록 전용 프로젝션 → BookItem (엔티티 로딩 없음, 카테고리 이름은 호출 측에서 전달)
+        public BookItem(BookListItemView view, String category) {
+            this.bookId = view.getBookId();
+            this.title = view.getTitle();
+            this.category = category;
+            this.imageUrl = view.getImageUrl();
+            this.createdAt = view.getCreatedAt();
+            this.updatedAt = view.getUpdatedAt();
+        }
     }
 
     // ✅ Page<Book> → BookListResponse 변환 팩토리
@@ -57,4 +76,39 @@ public class BookListResponse {
                         .toList()
         );
     }
+
+    // ✅ Page<BookListItemView> → BookListResponse 변환 팩토리
+    public static BookListResponse fromItems(Page<BookListItemView> pageResult,
+                                             Function<Long, String> categoryNames) {
+        return new BookListResponse(
+                pageResult.getNumber(),
+                pageResult.getTotalPages(),
+                pageResult.getTotalElements(),
+                toItems(pageResult.getContent(), categoryNames)
+        );
+    }
+
+    // ✅ Slice<BookListItemView> → BookListResponse 변환 팩토리 (COUNT 쿼리 없음)
+    //    totalItems 가 null 이면 전체 건수/페이지 수 없이 hasNext 만 제공
+    public static BookListResponse fromSlice(Slice<BookListItemView> sliceResult, Long totalItems,
+                                             Function<Long, String> categoryNames) {
+        Integer totalPages = totalItems == null
+                ? null
+                : (int) Math.ceil((double) totalItems / sliceResult.getSize());
+
+        return new BookListResponse(
+                sliceResult.getNumber(),
+                totalPages,
+                totalItems,
+                sliceResult.hasNext(),
+                toItems(sliceResult.getContent(), categoryNames)
+        );
+    }
+
+    // 프로젝션 목록 → BookItem 목록 (categoryId → 이름 변환 포함)
+    public static List<BookItem> toItems(List<BookListItemView> views, Function<Long, String> categoryNames) {
+        return views.stream()
+                .map(view -> new BookItem(view, categoryNames.apply(view.getCategoryId())))
+                .toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.back.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 도서 제목 자동완성 응답 DTO
+ *  - query       : 요청한 입력값
+ *  - suggestions : 제목 시작 일치 → 단어 중간 일치 순의 후보 목록
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSuggestResponse {
+
+    private String query;
+    private List<SuggestItem> suggestions;
+
+    /**
+     * 자동완성 후보 한 건
+     *  - bookId : 도서 ID (선택 시 상세 조회로 바로 이동)
+     *  - title  : 도서 제목
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SuggestItem {
+        private Long bookId;
+        private String title;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.back.config;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청별 비동기 처리(StreamingResponseBody 등) 시간 제한
+ *  - 기본값은 spring.mvc.async.request-timeout (미설정 시 컨테이너 기본값)
+ *  - 컨트롤러가 TIMEOUT_ATTRIBUTE 요청 속성(ms, Long)을 두면 그 요청만 해당 시간으로 제한한다. (예: 도서 내보내기)
+ */
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    public static final String TIMEOUT_ATTRIBUTE = AsyncRequestConfig.class.getName() + ".timeout";
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            // 비동기 처리 시작 직전 (이 시점에는 아직 timeout 변경 가능)
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (timeout instanceof Long timeoutMs && request instanceof AsyncWebRequest asyncRequest) {
+                    asyncRequest.setTimeout(timeoutMs);
+                }
+            }
+        });
+    }
+}
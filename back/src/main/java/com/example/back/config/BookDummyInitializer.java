@@ -1,53 +1,55 @@
 package com.example.back.config;
 
-import java.util.List;
-import java.util.Random;
-
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import com.example.back.entity.Book;
-import com.example.back.entity.Category;
 import com.example.back.entity.User;
-import com.example.back.repository.BookRepository;
-import com.example.back.repository.CategoryRepository;
 import com.example.back.repository.UserRepository;
+import com.example.back.service.BookSeedService;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 기동 시 더미 데이터 준비
+ *  - admin 계정 보장 후 app.seed.profile 규모(SMALL 100건 / MEDIUM 10만 건 / LARGE 1,000만 건)로 도서를 시딩한다.
+ *  - 실제 시딩은 BookSeedService (병렬 JDBC 배치, seed_chunks 기반 이어하기)
+ *  - 기본값은 NONE (운영 DB 에 더미 데이터/계정을 만들지 않음), dev/test/jmh 프로필에서만 켠다.
+ *
+ * 실행 예 (운영 규모 로컬 재현):
+ *   ./gradlew bootRun --args='--spring.profiles.active=dev --app.seed.profile=LARGE --app.seed.threads=8'
+ */
 @Slf4j
 @Order(2)
 @Component
 public class BookDummyInitializer implements CommandLineRunner {
 
-    private final BookRepository bookRepository;
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
     private final PasswordEncoder passwordEncoder;
+    private final BookSeedService bookSeedService;
+    private final SeedProfile profile;
 
     public BookDummyInitializer(
-            BookRepository bookRepository,
             UserRepository userRepository,
-            CategoryRepository categoryRepository,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            BookSeedService bookSeedService,
+            @Value("${app.seed.profile:NONE}") SeedProfile profile
     ) {
-        this.bookRepository = bookRepository;
         this.userRepository = userRepository;
-        this.categoryRepository = categoryRepository;
         this.passwordEncoder = passwordEncoder;
+        this.bookSeedService = bookSeedService;
+        this.profile = profile;
     }
 
     @Override
     public void run(String... args) {
 
-        log.info("=== BookDummyInitializer 실행 시작 ===");
+        log.info("=== BookDummyInitializer 실행 시작: profile={} ===", profile);
 
-        // 이미 데이터 존재 시 중단
-        long existingCount = bookRepository.count();
-        if (existingCount > 0) {
-            log.info("Book 더미 데이터 {}건 존재 — 초기화 생략", existingCount);
+        if (profile == SeedProfile.NONE) {
+            log.info("더미 데이터 시딩 비활성화(app.seed.profile=NONE) — 초기화 생략");
             return;
         }
 
@@ -72,59 +74,10 @@ public class BookDummyInitializer implements CommandLineRunner {
         }
 
         // ===================================================================
-        // 2) 카테고리 목록 조회
-        // ===================================================================
-        log.info("카테고리 목록 조회 중...");
-        List<Category> categories = categoryRepository.findAll();
-
-        if (categories.isEmpty()) {
-            log.error("카테고리 데이터가 0건입니다. Book 더미 데이터 생성 중단.");
-            return;
-        }
-
-        log.info("카테고리 {}건 로딩 완료", categories.size());
-
-        Random random = new Random();
-
-        // ===================================================================
-        // 3) 더미 Book 데이터 생성
+        // 2) 프로필 규모만큼 더미 도서 시딩 (병렬 chunk, 중단 시 이어하기)
         // ===================================================================
-        int size = 100;
-        log.info("Book 더미 데이터 생성 시작... 총 {}건 예정", size);
-
-        // 카테고리 ID 목록만 추출
-        List<Long> categoryIds = categories.stream()
-                .map(Category::getId)
-                .toList();
-
-        for (int i = 1; i <= size; i++) {
-
-            // 1) 랜덤 category_id 선택
-            Long randomCategoryId = categoryIds.get(random.nextInt(categoryIds.size()));
-
-            // 2) category_id로 실제 Category 엔티티 조회
-            Category randomCategory = categoryRepository.findById(randomCategoryId)
-                    .orElseThrow(() -> new IllegalStateException("Category 조회 실패: id=" + randomCategoryId));
-
-            // log.info("Book {}번 -> 선택된 카테고리 ID={}, name={}", i, randomCategory.getId(), randomCategory.getName());
-
-            // 3) Book 생성
-            Book book = new Book();
-            book.setUser(admin);
-            book.setCategoryId(randomCategory);  // Category 엔티티 설정
-            book.setTitle("더미 책 제목 " + i);
-            book.setDescription("이것은 더미 책 설명입니다.");
-            book.setContent("이것은 더미 책 내용입니다. " + i + "번째 더미 데이터입니다.");
-            book.setImageUrl("https://picsum.photos/200/320?random=" + i);
-
-            bookRepository.save(book);
-
-            if (i % 10 == 0) {
-                log.info("더미 Book {}건 생성 완료...", i);
-            }
-        }
+        bookSeedService.seed(profile);
 
-        log.info("Book 더미 데이터 {}건 삽입 완료", size);
         log.info("=== BookDummyInitializer 실행 종료 ===");
 
     }
@@ -0,0 +1,71 @@
+package com.example.back.config;
+
+import java.sql.DatabaseMetaData;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * books.title 의 MySQL FULLTEXT(ngram parser) 인덱스 존재 확인
+ *  - 인덱스 생성은 운영 작업으로 분리 (scripts/ft_books_title.sql) — 큰 테이블에서 ALTER TABLE 은 쓰기와 기동을 막으므로 앱에서 만들지 않는다.
+ *  - ngram parser 는 공백 없이 이어지는 한글 제목도 2글자 단위로 토큰화한다.
+ *  - MySQL 이 아니거나 인덱스가 없으면 available=false 로 두고, 검색은 LIKE 로 대체된다.
+ */
+@Slf4j
+@Order(3)
+@Component
+public class BookFullTextIndexInitializer implements CommandLineRunner {
+
+    public static final String INDEX_NAME = "ft_books_title";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available = false;
+
+    public BookFullTextIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(String... args) {
+
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            DatabaseMetaData meta = con.getMetaData();
+            return meta.getDatabaseProductName();
+        });
+
+        if (product == null || !product.toLowerCase().contains("mysql")) {
+            log.info("FULLTEXT 인덱스 생략 — MySQL 아님(product={}), 제목 검색은 LIKE 사용", product);
+            return;
+        }
+
+        try {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'books' AND index_name = ?",
+                    Integer.class,
+                    INDEX_NAME
+            );
+
+            if (exists == null || exists == 0) {
+                log.warn("FULLTEXT 인덱스 없음: {} — 제목 검색은 LIKE 사용 (scripts/ft_books_title.sql 로 생성)", INDEX_NAME);
+                return;
+            }
+
+            log.info("FULLTEXT 인덱스 존재 확인: {}", INDEX_NAME);
+            available = true;
+
+        } catch (Exception e) {
+            log.error("FULLTEXT 인덱스 확인 실패 — 제목 검색은 LIKE 사용: error={}", e.toString());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
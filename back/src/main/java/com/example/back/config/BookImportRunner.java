@@ -0,0 +1,73 @@
+package com.example.back.config;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.back.DTO.BookImportRequest.BookImportItem;
+import com.example.back.DTO.BookImportResponse;
+import com.example.back.service.BookImportService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * NDJSON 파일 도서 일괄 등록 (CLI)
+ *  - app.books.import.file 이 지정된 경우에만 실행된다.
+ *  - 한 줄에 도서 하나 {"title":..,"description":..,"content":..,"categoryId":..}
+ *  - 파일을 한 줄씩 읽어 BookImportService 에 넘기므로 파일 크기와 무관하게 chunk 하나만 메모리에 둔다.
+ *
+ * 실행 예 (웹 서버 없이 등록 후 종료):
+ *   java -jar back.war --spring.main.web-application-type=none \
+ *     --app.books.import.file=/data/books.ndjson --app.books.import.user=admin
+ */
+@Slf4j
+@Order(4)
+@Component
+@ConditionalOnProperty(name = "app.books.import.file")
+public class BookImportRunner implements CommandLineRunner {
+
+    private final BookImportService bookImportService;
+    private final ObjectMapper objectMapper;
+    private final String file;
+    private final String userId;
+
+    public BookImportRunner(
+            BookImportService bookImportService,
+            ObjectMapper objectMapper,
+            @Value("${app.books.import.file}") String file,
+            @Value("${app.books.import.user:admin}") String userId
+    ) {
+        this.bookImportService = bookImportService;
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.userId = userId;
+    }
+
+    @Override
+    public void run(String... args) throws IOException {
+        log.info("=== 도서 일괄 등록(CLI) 시작: file={}, userId={} ===", file, userId);
+
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8);
+             MappingIterator<BookImportItem> items = objectMapper.readerFor(BookImportItem.class).readValues(reader)) {
+
+            BookImportResponse result = bookImportService.importBooks(userId, items);
+
+            log.info("=== 도서 일괄 등록(CLI) 종료: 요청={}, 등록={}, 건너뜀={}, {}ms, {} rows/s ===",
+                    result.getRequested(), result.getImported(), result.getRejected(),
+                    result.getElapsedMs(), result.getRowsPerSecond());
+
+            result.getErrors().forEach(error ->
+                    log.warn("건너뛴 행: line={}, reason={}", error.getIndex() + 1, error.getReason()));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.back.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 원격 표지 이미지 다운로드용 공유 HttpClient
+ *  - 인스턴스 하나를 재사용하므로 같은 호스트(이미지 CDN, picsum 등)로의 연결이 keep-alive 로 유지된다. (요청마다 TCP/TLS 재연결 없음)
+ *  - HTTPS 호스트가 지원하면 HTTP/2 로 한 연결에서 여러 요청을 다중화, 아니면 HTTP/1.1 로 자동 전환
+ *  - 호스트별 동시 요청 수 제한/지표는 ImageFetcher 에서 처리
+ */
+@Configuration
+public class ImageHttpClientConfig {
+
+    @Bean
+    public HttpClient imageHttpClient(@Value("${app.covers.http.connect-timeout-ms:7000}") long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL) //  리다이렉트(302 등) 허용 (https → http 제외)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+}
@@ -13,7 +13,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.example.back.filter.JwtAuthFilter;
-import com.example.back.jwt.JwtUtil;
+import com.example.back.jwt.JwtVerifier;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,11 +22,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtUtil jwtUtil;  // JwtAuthFilter 생성에 필요
+    private final JwtVerifier jwtVerifier;  // JwtAuthFilter 생성에 필요
 
     @Bean
     public JwtAuthFilter jwtAuthFilter() {
-        return new JwtAuthFilter(jwtUtil);   // Bean 등록
+        return new JwtAuthFilter(jwtVerifier);   // Bean 등록
     }
 
     @Bean
@@ -44,6 +44,8 @@ public class SecurityConfig {
                     "/api/auth/delete",
                     "/api/books/detail",
                     "/api/books/create",
+                    "/api/books/import",
+                    "/api/books/export",
                     "/api/books/update",
                     "/api/books/delete",
                     "/api/auth/apikey",
@@ -65,7 +67,7 @@ public class SecurityConfig {
         config.setAllowedMethods(List.of("*"));
         config.setAllowedHeaders(List.of("*"));
 
-        config.setExposedHeaders(List.of("Authorization", "Set-Cookie", "API-KEY"));
+        config.setExposedHeaders(List.of("Authorization", "Set-Cookie", "API-KEY", "ETag"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
@@ -0,0 +1,32 @@
+package com.example.back.config;
+
+/**
+ * 더미 데이터 시딩 규모 (app.seed.profile)
+ *  - NONE   : 시딩하지 않음 (기본값)
+ *  - SMALL  : 도서 100건 (로컬 개발용, dev 프로필 기본값)
+ *  - MEDIUM : 도서 10만 건, 사용자 1,000명
+ *  - LARGE  : 도서 1,000만 건, 사용자 1만 명 (운영 규모 성능 테스트용)
+ */
+public enum SeedProfile {
+
+    NONE(0, 0),
+    SMALL(100, 10),
+    MEDIUM(100_000, 1_000),
+    LARGE(10_000_000, 10_000);
+
+    private final long books;
+    private final int users;
+
+    SeedProfile(long books, int users) {
+        this.books = books;
+        this.users = users;
+    }
+
+    public long getBooks() {
+        return books;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+}
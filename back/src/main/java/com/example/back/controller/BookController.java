@@ -1,15 +1,27 @@
 package com.example.back.controller;
 
-import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 
 import com.example.back.DTO.*;
+import com.example.back.config.AsyncRequestConfig;
+import com.example.back.service.BookExportService;
+import com.example.back.service.BookImportService;
 import com.example.back.service.BookService;
-import org.springframework.core.io.FileSystemResource;
+import com.example.back.service.CoverFileResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.core.io.Resource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,88 +32,114 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class BookController {
     private final BookService bookService;
-    private final String coverPath = "./back/uploads/bookcovers/";
+    private final BookExportService bookExportService;
+    private final BookImportService bookImportService;
+    private final CoverFileResolver coverFileResolver;
+    private final CoverResponseWriter coverResponseWriter;
+
+    @Value("${app.covers.cache.max-age-seconds:300}")
+    private long coverMaxAgeSeconds;
+
+    @Value("${app.books.export.timeout-ms:600000}")
+    private Long exportTimeoutMs;
 
     @GetMapping("/cover/{bookId}")
-    @SuppressWarnings("null")
-    public ResponseEntity<?> getBookCover(@PathVariable("bookId") Long bookId) {
+    public void getBookCover(@PathVariable("bookId") Long bookId,
+                             ServletWebRequest webRequest) throws IOException {
         /**
          * 책 커버 이미지 반환 API
          * - 전달받은 bookId로 서버 로컬에 저장된 책 표지 이미지를 조회하여 반환합니다.
-         * - 경로 규칙: {coverPath}/{bookId}.jpg
+         * - 경로 규칙: {coverPath}/{bookId}.{jpg|png} (jpg 우선)
+         * - 같은 URL 에 다른 파일이 올 수 있으므로 짧게 캐시(max-age-seconds)하고 ETag/Last-Modified 로 재검증
          *
          * @param bookId Long
          *   - URL Path Variable: 요청한 도서의 ID
          *
-         * @return ResponseEntity<?>
-         *   - 200: 이미지 파일 반환 (Content-Type: image/jpeg)
+         * 응답:
+         *   - 200: 이미지 파일 반환 (Content-Type: 실제 파일 형식)
+         *   - 206: Range 요청 구간 반환
+         *   - 304: 변경 없음 (If-None-Match / If-Modified-Since)
          *   - 404: 해당 bookId의 이미지 파일이 존재하지 않음
+         *   - 416: 파일 범위를 벗어나거나 빈 구간인 Range (예: bytes=-0)
          */
         log.info("커버 이미지 요청: bookId={}", bookId);
 
-        String filePath = coverPath + bookId + ".png";
-        File file = new File(filePath);
-
-        // 이미지 파일 존재 여부 확인
-        if (!file.exists()) {
-            log.warn("커버 이미지 파일 없음: path={}", filePath);
-
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(
-                        java.util.Map.of(
-                            "status", "error",
-                            "message", "이미지를 찾을 수 없습니다."
-                        )
-                    );
-        }
-
-        // 파일이 존재할 때
-        log.info("커버 이미지 파일 반환 준비 완료: path={}", filePath);
+        CoverFileResolver.CoverFile cover = coverFileResolver.resolve(bookId)
+                .orElseThrow(() -> {
+                    log.warn("커버 이미지 파일 없음: bookId={}", bookId);
+                    return new ResponseStatusException(HttpStatus.NOT_FOUND, "이미지를 찾을 수 없습니다.");
+                });
 
-        Resource resource = new FileSystemResource(file);
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .contentType(MediaType.IMAGE_JPEG)
-                .body(resource);
+        coverResponseWriter.write(cover, CacheControl.maxAge(Duration.ofSeconds(coverMaxAgeSeconds)).cachePublic(), webRequest);
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse<?>> getBooks(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Long categoryId,
+            WebRequest webRequest
     ) {
         /**
          * 도서 목록 조회 API (GET)
          *
          * <동작 개요>
          * - 페이지 번호와 페이지 크기를 기준으로 도서 목록을 조회하여 응답으로 반환한다.
+         * - after 파라미터가 있으면 커서(keyset) 방식으로 조회한다. (page 무시, 전체 건수 미제공)
          *
          * 요청 정보
          * - @RequestParam int page
          *   : 조회할 페이지 번호 (기본값 1)
          * - @RequestParam int size
          *   : 한 페이지당 조회할 도서 수 (기본값 10)
+         * - @RequestParam String after (선택)
+         *   : 이전 응답의 nextCursor 값, 빈 값이면 커서 방식의 첫 페이지
+         * - @RequestParam Long categoryId (선택)
+         *   : 지정 시 해당 카테고리 도서만 조회 (건수는 카테고리별 캐시 값)
+         * - If-None-Match 헤더 (선택)
+         *   : 이전 응답의 ETag, 카탈로그 변경이 없으면 304 반환 (목록 조회 없음)
          *
-         * 응답 형식 (ResponseEntity<ApiResponse<BookListResponse>>)
-         * - 200: 도서 목록 조회 성공
-         * - 400: 잘못된 페이지 번호 등 잘못된 요청
+         * 응답 형식 (ResponseEntity<ApiResponse<BookListResponse | BookCursorResponse>>)
+         * - 200: 도서 목록 조회 성공 (ETag 포함)
+         * - 304: 변경 없음
+         * - 400: 잘못된 페이지 번호, 잘못된 커서 등 잘못된 요청
          * - 500: 서버 내부 오류 발생 시
          */
-        BookListResponse data = bookService.getBooks(page - 1, size);
+        String etag = bookService.getCatalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            log.info("도서 목록 조회 - 변경 없음(304): etag={}", etag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        if (after != null) {
+            BookCursorResponse data = bookService.getBooksAfter(after, size, categoryId);
+
+            log.info("도서 목록 조회 성공(커서): size={}, hasNext={}", data.getBooks().size(), data.isHasNext());
+
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(new ApiResponse<>("success", "도서목록조회성공", data));
+        }
+
+        BookListResponse data = bookService.getBooks(page - 1, size, categoryId);
 
         log.info("도서 목록 조회 성공: page={}, totalPages={}", data.getPage(), data.getTotalPages());
 
-        return ResponseEntity.ok(
-                new ApiResponse<>("success", "도서목록조회성공", data)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(new ApiResponse<>("success", "도서목록조회성공", data));
     }
 
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<BookListResponse>> searchBooksByTitle(
             @RequestParam String title,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean count,
+            WebRequest webRequest
     ) {
         /**
          * 도서 제목 검색 API (GET)
@@ -116,32 +154,112 @@ public class BookController {
          *   : 조회할 페이지 번호 (기본값 1, 프론트 기준)
          * - @RequestParam int size
          *   : 한 페이지당 조회할 도서 수 (기본값 10)
+         * - @RequestParam boolean count
+         *   : false 이면 COUNT 쿼리를 생략하고 hasNext 만 제공 (totalPages/totalItems = null)
+         * - If-None-Match 헤더 (선택)
+         *   : 이전 응답의 ETag(목록과 같은 카탈로그 버전), 카탈로그 변경이 없으면 304 반환 (검색 쿼리 없음)
          *
          * 응답 형식 (ResponseEntity<ApiResponse<BookListResponse>>)
-         * - 200: 도서 제목 검색 성공
+         * - 200: 도서 제목 검색 성공 (ETag 포함)
+         * - 304: 변경 없음
          * - 400: 검색어 미입력, 잘못된 페이지 요청 등 잘못된 요청
          * - 500: 서버 내부 오류 발생 시
          */
         log.info("도서 제목 검색 요청: title={}, page={}, size={}", title, page - 1, size);
 
+        String etag = bookService.getCatalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            log.info("도서 제목 검색 - 변경 없음(304): title={}, etag={}", title, etag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         // page는 프론트 기준 1부터, 서비스/DB는 0부터 사용하므로 -1
-        BookListResponse data = bookService.searchBooksByTitle(title, page - 1, size);
+        BookListResponse data = bookService.searchBooksByTitle(title, page - 1, size, count);
 
         log.info("도서 제목 검색 성공: title={}, page={}, totalPages={}",
                 title, data.getPage(), data.getTotalPages());
 
-        return ResponseEntity.ok(
-                new ApiResponse<>(
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(new ApiResponse<>(
                         "success",
                         "도서제목검색성공",
                         data
-                )
-        );
+                ));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<BookSuggestResponse>> suggestTitles(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        /**
+         * 도서 제목 자동완성 API (GET)
+         *
+         * <동작 개요>
+         * - 검색창 입력마다 호출되며, 입력값으로 시작하는 제목(단어 시작 기준) 후보를 반환한다.
+         * - 메모리 색인에서만 조회하므로 DB 접근이 없다.
+         *
+         * 요청 정보
+         * - @RequestParam String q
+         *   : 입력 중인 검색어 (한글 자모/초성 입력 가능, 비어 있으면 빈 목록)
+         * - @RequestParam int size
+         *   : 최대 후보 수 (기본값 10, 최대 app.books.suggest-max-size)
+         *
+         * 응답 형식 (ResponseEntity<ApiResponse<BookSuggestResponse>>)
+         * - 200: 자동완성 조회 성공
+         * - 400: 잘못된 size
+         */
+        BookSuggestResponse data = bookService.suggestTitles(q, size);
+
+        return ResponseEntity.ok(new ApiResponse<>("success", "도서제목자동완성성공", data));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @RequestAttribute("userId") String userId,
+            @RequestParam(defaultValue = "0") long afterBookId,
+            WebRequest webRequest
+    ) {
+        /**
+         * 도서 카탈로그 내보내기 API (GET, NDJSON)
+         *
+         * <동작 개요>
+         * - 전체 도서를 book_id 오름차순으로 한 줄에 한 건씩(JSON) 스트리밍한다.
+         * - 페이지 반복 조회(OFFSET + COUNT) 없이 한 번의 forward-only 조회로 끝까지 내보낸다.
+         * - 응답은 별도 스레드에서 기록되며, 클라이언트가 느리면 조회도 그 속도에 맞춰 진행된다.
+         * - 스트리밍 동안 DB 커넥션을 잡으므로 로그인 사용자만, 동시 app.books.export.max-concurrent 개까지,
+         *   app.books.export.timeout-ms 안에서만 허용한다.
+         *
+         * 요청 정보
+         * - @RequestAttribute("userId") String userId
+         *   : JwtAuthFilter에서 검증된 사용자 ID
+         * - @RequestParam long afterBookId
+         *   : 이 ID 이후 도서부터 내보냄 (기본값 0 = 처음부터, 중단된 내보내기 이어받기용)
+         *
+         * 응답 형식 (ResponseEntity<StreamingResponseBody>)
+         * - 200: application/x-ndjson 스트림 (각 줄 = BookExportRow)
+         * - 401: 인증 토큰 없음/유효하지 않음
+         * - 503: 동시 내보내기 수 초과 (Retry-After)
+         */
+        log.info("도서 내보내기 요청: userId={}, afterBookId={}", userId, afterBookId);
+
+        StreamingResponseBody body = bookExportService.stream(afterBookId, webRequest);
+
+        // 이 요청만 내보내기 전용 시간 제한 적용 (전역 비동기 timeout 은 늘리지 않음)
+        webRequest.setAttribute(AsyncRequestConfig.TIMEOUT_ATTRIBUTE, exportTimeoutMs, RequestAttributes.SCOPE_REQUEST);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .cacheControl(CacheControl.noStore())
+                .body(body);
     }
 
     @GetMapping("/detail/{bookId}")
     public ResponseEntity<ApiResponse<BookDetailResponse>> getBookDetail(
-            @PathVariable Long bookId
+            @PathVariable Long bookId,
+            WebRequest webRequest
     ) {
         /**
          * 도서 상세 조회 API (GET)
@@ -152,28 +270,76 @@ public class BookController {
          * 요청 정보
          * - @PathVariable Long bookId
          *   : 상세 조회할 도서의 고유 식별자(ID)
+         * - If-None-Match 헤더 (선택)
+         *   : 이전 응답의 ETag(bookId + 수정시각), 변경이 없으면 304 반환 (엔티티 로딩/직렬화 없음)
          *
          * 응답 형식 (ResponseEntity<ApiResponse<BookDetailResponse>>)
-         * - 200: 도서 상세 조회 성공
+         * - 200: 도서 상세 조회 성공 (ETag 포함)
+         * - 304: 변경 없음
          * - 404: 해당 ID의 도서가 존재하지 않을 경우 (IllegalArgumentException 발생)
          * - 500: 서버 내부 오류 발생 시
          */
         log.info("도서 상세 조회 요청: bookId={}", bookId);
 
+        // 조건부 요청일 때만 ETag 를 먼저 계산 (캐시 또는 수정시각 단일 컬럼 조회)
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = bookService.getBookDetailETag(bookId);
+
+            if (etag != null && webRequest.checkNotModified(etag)) {
+                log.info("도서 상세 조회 - 변경 없음(304): bookId={}", bookId);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
         BookDetailResponse data = bookService.getBookDetail(bookId);
 
         log.info("도서 상세 조회 성공: bookId={}", bookId);
 
+        return ResponseEntity.ok()
+                .eTag(bookService.toDetailETag(data))
+                .cacheControl(CacheControl.noCache())
+                .body(new ApiResponse<>(
+                        "success",
+                        "도서 상세 조회 성공",
+                        data
+                ));
+    }
+
+
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<BookBatchResponse>> getBookDetails(
+            @RequestParam(required = false) List<String> ids
+    ) {
+        /**
+         * 도서 일괄 상세 조회 API (GET)
+         *
+         * <동작 개요>
+         * - 여러 도서 ID를 한 번에 받아 상세 정보를 요청 순서대로 반환한다.
+         * - 상세 캐시를 함께 사용하며, 캐시에 없는 도서만 한 번의 IN 쿼리로 조회한다.
+         *
+         * 요청 정보
+         * - @RequestParam List<String> ids
+         *   : 조회할 도서 ID 목록 (예: ids=1,2,3, 최대 app.books.batch-max-size 건)
+         *   : 숫자가 아닌 값이 있으면 IllegalArgumentException → 400
+         *
+         * 응답 형식 (ResponseEntity<ApiResponse<BookBatchResponse>>)
+         * - 200: 조회 성공 (없는 도서는 found=false 로 표시)
+         * - 400: ids 누락/형식 오류 또는 최대 건수 초과
+         * - 500: 서버 내부 오류 발생 시
+         */
+        log.info("도서 일괄 조회 요청: ids={}", ids);
+
+        BookBatchResponse data = bookService.getBookDetails(parseBookIds(ids));
+
         return ResponseEntity.ok(
                 new ApiResponse<>(
                         "success",
-                        "도서 상세 조회 성공",
+                        "도서 일괄 조회 성공",
                         data
                 )
         );
     }
 
-
     @PostMapping("/create")
     public ResponseEntity<ApiResponse<?>> createBook(
             @RequestAttribute("userId") String userId,
@@ -209,6 +375,37 @@ public class BookController {
         );
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<BookImportResponse>> importBooks(
+            @RequestAttribute("userId") String userId,
+            @RequestBody BookImportRequest req
+    ) {
+        /**
+         * 도서 일괄 등록 API (POST)
+         *
+         * <동작 개요>
+         * - 요청 본문의 도서 목록을 JDBC 배치 INSERT 로 한꺼번에 등록한다. (표지 이미지 생성/업로드 없음)
+         * - chunk 단위로 커밋되며, 검증에 실패한 행은 건너뛰고 사유를 응답에 담는다.
+         *
+         * 요청 정보
+         * - @RequestAttribute("userId") String userId
+         *   : JwtAuthFilter에서 토큰을 검증한 뒤 설정한 인증 사용자 ID (등록 도서의 작성자)
+         * - @RequestBody BookImportRequest req
+         *   : books 배열 (title, description, content, categoryId), 최대 app.books.import.max-rows 건
+         *
+         * 응답 형식 (ResponseEntity<ApiResponse<BookImportResponse>>)
+         * - 200: 등록 완료 (등록/건너뜀 건수, 처리 시간, 초당 처리 행 수)
+         * - 400: 빈 요청, 최대 건수 초과, 사용자 없음
+         * - 401: 인증 실패
+         * - 500: 서버 내부 오류 발생 시
+         */
+        log.info("도서 일괄 등록 요청: userId={}, size={}", userId, req.getBooks() == null ? 0 : req.getBooks().size());
+
+        BookImportResponse data = bookImportService.importBooks(userId, req.getBooks());
+
+        return ResponseEntity.ok(new ApiResponse<>("success", "도서일괄등록성공", data));
+    }
+
     @PutMapping("/update/{bookId}")
     public ResponseEntity<ApiResponse<?>> updateBook(
             @RequestAttribute("userId") String userId,
@@ -290,4 +487,20 @@ public class BookController {
         );
     }
 
+
+    // ids 파라미터를 직접 변환 (누락/형식 오류를 바인딩 예외(500)가 아닌 400 으로 응답하기 위함)
+    private List<Long> parseBookIds(List<String> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        try {
+            return ids.stream()
+                    .filter(id -> id != null && !id.isBlank())
+                    .map(id -> Long.valueOf(id.trim()))
+                    .toList();
+        } catch (NumberFormatException e) {
+            log.warn("도서 일괄 조회 실패 - 잘못된 ID 형식: ids={}", ids);
+            throw new IllegalArgumentException("도서 ID(ids) 형식이 올바르지 않습니다.");
+        }
+    }
 }
@@ -1,14 +1,17 @@
 package com.example.back.controller;
 
-import com.example.back.DTO.ApiResponse;
-import com.example.back.DTO.CategoryItemResponse;
+import com.example.back.service.CategoryDictionary;
 import com.example.back.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.time.Duration;
 
 @Slf4j
 @RestController
@@ -16,36 +19,49 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryController {
 
+    // 카테고리는 거의 바뀌지 않으므로 하루 동안 캐시 (이후 ETag 로 재검증)
+    private static final Duration CATEGORY_MAX_AGE = Duration.ofDays(1);
+
     private final CategoryService categoryService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CategoryItemResponse>>> getCategories() {
+    public ResponseEntity<byte[]> getCategories(WebRequest webRequest) {
         /**
          * 카테고리 목록 조회 API (GET)
          *
          * <동작 개요>
          * - 시스템에 등록된 전체 카테고리 목록을 조회하여 클라이언트에게 반환한다.
+         * - 메모리에 미리 직렬화해 둔 응답(byte[])을 그대로 내려보내며, 장기 캐시 헤더와 ETag 를 붙인다.
          *
          * 요청 정보
          * - 별도의 요청 파라미터 없음
+         * - If-None-Match 헤더 (선택): 이전 응답의 ETag 와 같으면 304 반환
          *
-         * 응답 형식 (ResponseEntity<ApiResponse<List<CategoryItemResponse>>>)
+         * 응답 형식 (ApiResponse<List<CategoryItemResponse>> JSON)
          * - 200: 카테고리 목록 조회 성공
+         * - 304: 변경 없음
          * - 500: 서버 내부 오류 발생 시
          */
 
         log.info("카테고리 목록 조회 요청");
 
-        List<CategoryItemResponse> data = categoryService.getCategories();
+        CategoryDictionary.Snapshot snapshot = categoryService.getCategorySnapshot();
+        CacheControl cacheControl = CacheControl.maxAge(CATEGORY_MAX_AGE).cachePublic();
+
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            log.info("카테고리 목록 조회 - 변경 없음(304)");
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
 
-        log.info("카테고리 목록 조회 성공: size={}", data.size());
+        log.info("카테고리 목록 조회 성공: size={}", snapshot.items().size());
 
-        return ResponseEntity.ok(
-                new ApiResponse<>(
-                        "success",
-                        "카테고리목록조회성공",
-                        data
-                )
-        );
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag())
+                .cacheControl(cacheControl)
+                .body(snapshot.json());
     }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.example.back.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.back.service.CoverFileResolver;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 표지 파일 응답 작성
+ *  - 강한 ETag(형식 + 크기 + 수정시각) / Last-Modified → If-None-Match, If-Modified-Since 이면 304
+ *  - Range(단일 구간) → 206 + Content-Range, 범위 밖/빈 구간(bytes=-0 등)이면 416 / If-Range 가 현재 버전과 다르면 전체 응답
+ *  - 본문 전송: Tomcat sendfile 지원 시 커널 zero-copy(sendfile-min-bytes 이상),
+ *    아니면 FileChannel.transferTo 로 전송 (대상이 소켓 채널이 아닌 서블릿 출력 스트림이므로 JDK 내부 버퍼를 거쳐 복사됨)
+ */
+@Slf4j
+@Component
+public class CoverResponseWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final long sendfileMinBytes;
+
+    public CoverResponseWriter(@Value("${app.covers.sendfile-min-bytes:49152}") long sendfileMinBytes) {
+        this.sendfileMinBytes = sendfileMinBytes;
+    }
+
+    public void write(CoverFileResolver.CoverFile cover, CacheControl cacheControl, ServletWebRequest webRequest)
+            throws IOException {
+        HttpServletRequest request = webRequest.getRequest();
+        HttpServletResponse response = webRequest.getResponse();
+        Path path = cover.path();
+
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + cover.mediaType().getSubtype() + "-"
+                + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // ETag / Last-Modified 설정 + 조건부 요청이면 304 (또는 412)
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long start = 0;
+        long end = size - 1;
+        int status = HttpStatus.OK.value();
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && rangeApplies(request, etag, lastModified)) {
+            List<HttpRange> ranges = parseRanges(rangeHeader);
+
+            // 여러 구간 요청은 전체 응답으로 처리 (표지 이미지에서는 쓰이지 않음)
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                try {
+                    start = range.getRangeStart(size);
+                    end = range.getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    start = size;
+                }
+                // 파일 밖이거나 빈 구간(bytes=-0, 빈 파일 등)은 416
+                if (start >= size || start > end) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                status = HttpStatus.PARTIAL_CONTENT.value();
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = Math.max(0, end - start + 1);
+        response.setStatus(status);
+        response.setContentType(cover.mediaType().toString());
+        response.setContentLengthLong(length);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        // 커널 sendfile: 요청 처리 후 Tomcat 이 파일 → 소켓으로 직접 전송
+        if (length >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // 잘못된 Range 헤더는 무시하고 전체 응답
+    private static List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.debug("Range 헤더 무시: {}", rangeHeader);
+            return List.of();
+        }
+    }
+
+    // If-Range 가 없거나 현재 버전(ETag 또는 Last-Modified)과 같을 때만 Range 적용
+    private static boolean rangeApplies(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
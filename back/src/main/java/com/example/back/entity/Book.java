@@ -8,7 +8,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "books")
+@Table(
+    name = "books",
+    indexes = {
+        // 카테고리별 목록의 keyset 페이지네이션 (WHERE category_id = ? AND book_id < ? ORDER BY book_id DESC)
+        @Index(name = "idx_books_category_book", columnList = "category_id, book_id DESC")
+    }
+)
 @Getter
 @Setter
 public class Book {
@@ -17,11 +23,11 @@ public class Book {
     @Column(name="book_id")
     private Long id; // PK (book id)
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user; // 작성자 id
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private Category categoryId; // 카테고리
 
@@ -37,6 +43,16 @@ public class Book {
     @Column(name = "image_url", length = 500)
     private String imageUrl;   // AI 생성 표지 이미지 URL
 
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;   // 목록용 200w JPEG 썸네일 URL (없으면 imageUrl 사용)
+
+    @Column(name = "preview_url", length = 500)
+    private String previewUrl;     // 상세용 400w JPEG 썸네일 URL (없으면 imageUrl 사용)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cover_status", length = 10)
+    private CoverStatus coverStatus;   // 표지 비동기 처리 상태 (null: 표지 요청 없음)
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime created_at;
@@ -0,0 +1,26 @@
+package com.example.back.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 도서 카탈로그 버전 (한 행)
+ *  - 도서 변경 트랜잭션 안에서 version 을 1 올린다. 모든 인스턴스가 같은 값을 보므로 목록 ETag 의 기준이 된다.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "catalog_state")
+public class CatalogState {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    public CatalogState() {}
+}
@@ -0,0 +1,78 @@
+package com.example.back.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 표지 저장 작업 큐 (cover_jobs)
+ *  - 도서 등록/수정 트랜잭션에서 함께 INSERT 되므로 커밋된 도서의 표지 작업은 유실되지 않는다.
+ *  - CoverIngestionService 가 PENDING 작업을 RUNNING 으로 선점(조건부 UPDATE)한 뒤 백그라운드에서 처리한다.
+ *  - 실패 시 next_attempt_at 을 늦춰 PENDING 으로 되돌리고, max-attempts 를 넘기면 FAILED
+ *  - 같은 도서에 새 작업이 들어오면 대기 중인 이전 작업은 CANCELLED
+ */
+@Entity
+@Getter
+@Setter
+@Table(
+    name = "cover_jobs",
+    indexes = {
+        // 처리 대상 조회 (WHERE status = 'PENDING' AND next_attempt_at <= ? ORDER BY id)
+        @Index(name = "idx_cover_jobs_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_cover_jobs_book", columnList = "book_id")
+    }
+)
+public class CoverJob {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        DONE,
+        FAILED,
+        CANCELLED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "source_url", nullable = false, length = 1000)
+    private String sourceUrl;   // 원본 이미지 URL
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public CoverJob() {}
+
+    public CoverJob(Long bookId, String sourceUrl) {
+        LocalDateTime now = LocalDateTime.now();
+        this.bookId = bookId;
+        this.sourceUrl = sourceUrl;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+}
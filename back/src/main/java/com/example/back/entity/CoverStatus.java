@@ -0,0 +1,14 @@
+package com.example.back.entity;
+
+/**
+ * 도서 표지 처리 상태
+ *  - PENDING : 표지 작업 대기/진행 중 (이전 표지가 있으면 그대로 노출)
+ *  - READY   : 표지 저장 완료
+ *  - FAILED  : 재시도 횟수를 모두 소진해 표지 저장 실패
+ *  - null    : 표지 요청 없음 (또는 비동기 처리 도입 전 데이터)
+ */
+public enum CoverStatus {
+    PENDING,
+    READY,
+    FAILED
+}
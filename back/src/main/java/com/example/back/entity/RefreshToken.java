@@ -7,13 +7,20 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "refresh_token")
+@Table(
+    name = "refresh_token",
+    indexes = {
+        // 만료 토큰 정리(RefreshTokenPurgeJob)의 keyset 조회 (WHERE expiry < ? ORDER BY expiry, id)
+        @Index(name = "idx_refresh_token_expiry", columnList = "expiry")
+    }
+)
 public class RefreshToken {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;   // 독립된 PK
 
-    @OneToOne
+    // 토큰 재발급은 token/expiry 만 사용 → user 는 지연 로딩 (findByUserId 가 users 조회 없이 한 문장)
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(
         name = "user_id",
         nullable = false,
@@ -35,9 +42,4 @@ public class RefreshToken {
         this.token = token;
         this.expiry = expiry;
     }
-
-    public void updateToken(String token, Long expiry) {
-        this.token = token;
-        this.expiry = expiry;
-    }
 }
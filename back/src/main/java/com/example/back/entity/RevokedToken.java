@@ -0,0 +1,48 @@
+package com.example.back.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 폐기된 Access Token 기록 (로그아웃/회원 탈퇴)
+ *  - 토큰 원문 대신 SHA-256 다이제스트(base64url)를 저장한다.
+ *  - 기동 시 만료되지 않은 행을 TokenRevocationList 로 다시 적재하고, 다른 인스턴스가 추가한 행은 주기적으로 가져온다.
+ *  - expires_at(토큰 exp, epoch ms)이 지난 행은 더 이상 필요 없으므로 정기적으로 삭제된다.
+ */
+@Entity
+@Getter
+@Setter
+@Table(
+    name = "revoked_tokens",
+    uniqueConstraints = @UniqueConstraint(name = "uk_revoked_tokens_digest", columnNames = "token_digest"),
+    indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        // 인스턴스 간 동기화 (WHERE revoked_at > ?)
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+    }
+)
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_digest", nullable = false, length = 64)
+    private String tokenDigest;
+
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;     // 토큰 exp (epoch ms)
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    public RevokedToken() {}
+
+    public RevokedToken(String tokenDigest, Long expiresAt) {
+        this.tokenDigest = tokenDigest;
+        this.expiresAt = expiresAt;
+        this.revokedAt = LocalDateTime.now();
+    }
+}
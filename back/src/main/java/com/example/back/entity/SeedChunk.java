@@ -0,0 +1,39 @@
+package com.example.back.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 더미 데이터 시딩 진행 기록
+ *  - chunk 하나(도서 chunk-size 건)가 커밋될 때 같은 트랜잭션에서 한 행이 추가된다.
+ *  - 재기동 시 기록된 chunk 는 건너뛰므로 중단된 대량 시딩을 이어서 진행할 수 있다.
+ */
+@Entity
+@Getter
+@Setter
+@Table(
+    name = "seed_chunks",
+    uniqueConstraints = @UniqueConstraint(name = "uk_seed_chunks_profile_chunk", columnNames = {"profile", "chunk_no"})
+)
+public class SeedChunk {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String profile;     // SeedProfile 이름
+
+    @Column(name = "chunk_no", nullable = false)
+    private Integer chunkNo;    // 0부터 시작하는 chunk 번호
+
+    @Column(name = "book_count", nullable = false)
+    private Integer bookCount;  // chunk 에 들어간 도서 수
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    public SeedChunk() {}
+}
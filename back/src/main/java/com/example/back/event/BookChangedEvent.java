@@ -0,0 +1,37 @@
+package com.example.back.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 도서 생성/수정/삭제 시 BookService 가 발행하는 이벤트
+ *  - 목록 건수 캐시 등 부가 데이터는 @TransactionalEventListener(AFTER_COMMIT) 로 받아 갱신한다.
+ *  - 커밋된 변경만 반영되므로 롤백된 요청은 캐시에 영향을 주지 않는다.
+ *  - categoryId         : 변경 후(삭제는 삭제 전) 카테고리
+ *  - previousCategoryId : 수정 전 카테고리 (수정이 아니면 null)
+ *  - title              : 변경 후 제목 (삭제는 null, 자동완성 색인 갱신용)
+ */
+@Getter
+@AllArgsConstructor
+public class BookChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long bookId;
+    private final Long categoryId;
+    private final Long previousCategoryId;
+    private final String title;
+
+    public static BookChangedEvent created(Long bookId, Long categoryId, String title) {
+        return new BookChangedEvent(Type.CREATED, bookId, categoryId, null, title);
+    }
+
+    public static BookChangedEvent updated(Long bookId, Long categoryId, Long previousCategoryId, String title) {
+        return new BookChangedEvent(Type.UPDATED, bookId, categoryId, previousCategoryId, title);
+    }
+
+    public static BookChangedEvent deleted(Long bookId, Long categoryId) {
+        return new BookChangedEvent(Type.DELETED, bookId, categoryId, null, null);
+    }
+}
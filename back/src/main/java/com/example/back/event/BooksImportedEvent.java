@@ -0,0 +1,18 @@
+package com.example.back.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 도서 일괄 등록(import)이 끝났을 때 BookImportService 가 발행하는 이벤트
+ *  - 행마다 BookChangedEvent 를 내는 대신 한 번만 발행한다.
+ *  - afterBookId : 등록 시작 전 가장 큰 book_id (이후 ID 가 새로 들어온 도서)
+ *  - imported    : 커밋된 행 수
+ */
+@Getter
+@AllArgsConstructor
+public class BooksImportedEvent {
+
+    private final long afterBookId;
+    private final long imported;
+}
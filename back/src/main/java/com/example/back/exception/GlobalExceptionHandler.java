@@ -47,7 +47,10 @@ public class GlobalExceptionHandler {
                 .filter(reason -> !reason.isBlank())
                 .orElse("오류가 발생했습니다.");
 
-        return build(status, message);
+        // 예외에 담긴 헤더(Retry-After 등)도 함께 전달
+        return ResponseEntity.status(status)
+                .headers(e.getHeaders())
+                .body(new ApiResponse<>("error", message, null));
     }
 
     // ====== 500 Database Error ======
@@ -1,6 +1,6 @@
 package com.example.back.filter;
 
-import com.example.back.jwt.JwtUtil;
+import com.example.back.jwt.JwtVerifier;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,7 +19,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtVerifier jwtVerifier;
 
     @Override
     @SuppressWarnings("null")
@@ -38,8 +38,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            jwtUtil.validateToken(token);
-            String userId = jwtUtil.getUserId(token);
+            // 서명/만료 검증과 userId 추출을 한 번에 (검증된 토큰은 캐시에서 바로 반환)
+            String userId = jwtVerifier.getUserId(token);
             log.info("[JwtAuthFilter] 추출된 userId={}", userId);
 
             request.setAttribute("userId", userId);
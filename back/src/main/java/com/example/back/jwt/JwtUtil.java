@@ -14,6 +14,7 @@ public class JwtUtil {
     private final long ACCESS_TOKEN_EXP;
     private final long REFRESH_TOKEN_EXP;
     private final Key SECRET_KEY;
+    private final JwtParser PARSER;   // 스레드 안전, 한 번만 생성해서 재사용
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
@@ -24,6 +25,14 @@ public class JwtUtil {
         this.REFRESH_TOKEN_EXP = refreshExp;
 
         this.SECRET_KEY = Keys.hmacShaKeyFor(secret.getBytes());
+        this.PARSER = Jwts.parserBuilder()
+                .setSigningKey(SECRET_KEY)
+                .build();
+    }
+
+    // 서명/만료 검증 후 Claims 반환 (한 번만 파싱, 실패 시 jjwt 예외 그대로 전파)
+    public Claims parseClaims(String token) {
+        return PARSER.parseClaimsJws(token).getBody();
     }
 
     // JWT 생성
@@ -48,21 +57,13 @@ public class JwtUtil {
 
     // JWT에서 userId 추출
     public String getUserId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     // JWT 유효성 검사
     public String validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
 
             return "VALID";
 
@@ -80,10 +81,7 @@ public class JwtUtil {
     // Refresh Token 검증
     public void validateRefreshToken(String refreshToken) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(refreshToken);
+            parseClaims(refreshToken);
 
         } catch (ExpiredJwtException e) {
             throw new RuntimeException("리프레시 토큰이 만료되었습니다.");
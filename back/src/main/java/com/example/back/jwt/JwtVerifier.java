@@ -0,0 +1,123 @@
+package com.example.back.jwt;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access Token 검증 + 검증된 Claims 캐시
+ *  - 요청마다 서명(HMAC) 검증/JSON 파싱을 반복하지 않도록, 한 번 검증한 토큰의 Claims 를 보관한다.
+ *  - 키는 토큰 원문이 아닌 SHA-256 다이제스트
+ *  - 항목은 토큰의 exp 시각(최대 max-ttl-seconds)에 만료되므로 만료된 토큰은 다시 파싱되어 ExpiredJwtException 이 발생한다.
+ *  - 폐기된 토큰(로그아웃/탈퇴)은 TokenRevocationList 로 확인해 거부한다. (DB 조회 없음)
+ *  - 지표: /actuator/metrics 의 cache.* (cache=jwtClaims)
+ */
+@Slf4j
+@Component
+public class JwtVerifier {
+
+    private static final String CACHE_NAME = "jwtClaims";
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationList revocationList;
+    private final Cache<String, Claims> cache;
+
+    public JwtVerifier(
+            JwtUtil jwtUtil,
+            TokenRevocationList revocationList,
+            @Value("${app.cache.jwt-claims.max-size:10000}") long maxSize,
+            @Value("${app.cache.jwt-claims.max-ttl-seconds:300}") long maxTtlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.revocationList = revocationList;
+
+        long maxTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        Date exp = claims.getExpiration();
+                        if (exp == null) {
+                            return maxTtlNanos;
+                        }
+                        long untilExp = Duration.ofMillis(exp.getTime() - System.currentTimeMillis()).toNanos();
+                        return Math.max(0, Math.min(untilExp, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("JWT Claims 캐시 초기화: maxSize={}, maxTtlSeconds={}", maxSize, maxTtlSeconds);
+    }
+
+    // 검증된 Claims (캐시에 없으면 한 번 파싱/검증 후 저장, 실패 시 jjwt 예외 그대로 전파 → 캐시되지 않음)
+    public Claims verify(String token) {
+        String key = digest(token);
+        if (revocationList.isRevoked(key)) {
+            throw new JwtException("폐기된 토큰입니다.");
+        }
+        return cache.get(key, k -> jwtUtil.parseClaims(token));
+    }
+
+    public boolean isRevoked(String token) {
+        return revocationList.isRevoked(digest(token));
+    }
+
+    // 토큰 폐기 (exp 까지 거부, 유효하지 않은 토큰이면 jjwt 예외 전파)
+    public void revoke(String token) {
+        Claims claims = verify(token);
+        Date exp = claims.getExpiration();
+        long expiresAt = exp != null ? exp.getTime() : System.currentTimeMillis() + Duration.ofDays(1).toMillis();
+
+        String key = digest(token);
+        revocationList.revoke(key, expiresAt);
+        cache.invalidate(key);
+    }
+
+    public String getUserId(String token) {
+        return verify(token).getSubject();
+    }
+
+    // 캐시에서 제거 (로그아웃/폐기된 토큰)
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.back.jwt;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.back.entity.RevokedToken;
+import com.example.back.repository.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폐기된 Access Token 목록 (토큰 다이제스트 기준)
+ *  - 요청마다 DB 를 조회하지 않도록 Bloom filter + 정확한 집합(다이제스트 -> exp)을 메모리에 둔다.
+ *  - 대부분의 정상 토큰은 Bloom filter 에서 바로 걸러지고(해시 1회 + 비트 k개 확인, 객체 생성 없음),
+ *    Bloom filter 가 "있을 수도 있음"이라고 할 때만 정확한 집합을 확인한다.
+ *  - 폐기 기록은 revoked_tokens 테이블에 저장되며, 기동 시 전체 적재 / sync-ms 마다 다른 인스턴스가 추가한 행을 가져온다.
+ *    (id 는 커밋 순서와 다를 수 있으므로 revoked_at 기준으로 직전 동기화 시각 - sync-overlap-ms 부터 다시 읽는다. 중복은 Map 이 걸러냄)
+ *  - 이 인스턴스의 폐기는 트랜잭션 커밋 후에 메모리에 반영한다. (롤백된 폐기가 메모리에만 남지 않도록)
+ *  - sweep-ms 마다 exp 가 지난 항목을 정리하고 Bloom filter 를 다시 만든다. (Bloom filter 는 개별 삭제가 안 됨)
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final long syncOverlapMs;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile LocalDateTime syncedAt;   // 마지막 동기화 시작 시각 (null 이면 전체 적재)
+    private volatile BloomFilter bloom;
+
+    public TokenRevocationList(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.revocation.expected-insertions:100000}") int expectedInsertions,
+            @Value("${app.auth.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${app.auth.revocation.sync-overlap-ms:60000}") long syncOverlapMs
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlapMs = syncOverlapMs;
+        this.bloom = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        Gauge.builder("auth.revocation.size", revoked, Map::size)
+                .description("메모리에 보관 중인 폐기 토큰 수")
+                .register(meterRegistry);
+    }
+
+    // 요청을 받기 전에 적재해야 하므로 ApplicationReadyEvent 가 아닌 초기화 시점에 로드
+    @PostConstruct
+    public void load() {
+        int loaded = sync();
+        log.info("폐기 토큰 목록 적재 완료: {}건", loaded);
+    }
+
+    // 폐기 여부 (exp 가 지난 토큰은 어차피 서명 검증 단계에서 거부되므로 false)
+    public boolean isRevoked(String digest) {
+        if (!bloom.mightContain(digest)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(digest);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 폐기 기록 저장 + 커밋 후 메모리 반영 (트랜잭션 밖이면 저장 직후 반영)
+    public void revoke(String digest, long expiresAt) {
+        if (revoked.containsKey(digest)) {
+            return;
+        }
+        // 메모리에 아직 없어도 DB 에는 있을 수 있음 (동시 로그아웃, 동기화 전 다른 인스턴스의 폐기) → 중복이면 기존 행 유지
+        revokedTokenRepository.insertIfAbsent(digest, expiresAt, LocalDateTime.now());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(digest, expiresAt);
+                }
+            });
+        } else {
+            remember(digest, expiresAt);
+        }
+    }
+
+    // 다른 인스턴스에서 추가된 폐기 기록 가져오기
+    //  - 늦게 커밋된 행(작은 id / 이전 revoked_at)도 놓치지 않도록 겹치는 구간을 다시 읽는다
+    @Scheduled(
+            initialDelayString = "${app.auth.revocation.sync-ms:5000}",
+            fixedDelayString = "${app.auth.revocation.sync-ms:5000}"
+    )
+    public int sync() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = syncedAt == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : syncedAt.minusNanos(syncOverlapMs * 1_000_000L);
+
+        List<RevokedToken> rows = revokedTokenRepository.findActiveRevokedSince(since, System.currentTimeMillis());
+        for (RevokedToken row : rows) {
+            remember(row.getTokenDigest(), row.getExpiresAt());
+        }
+        syncedAt = startedAt;
+        return rows.size();
+    }
+
+    private void remember(String digest, long expiresAt) {
+        if (revoked.putIfAbsent(digest, expiresAt) == null) {
+            bloom.put(digest);
+        }
+    }
+
+    // 만료 항목 정리 + Bloom filter 재생성 + 테이블 정리
+    @Scheduled(
+            initialDelayString = "${app.auth.revocation.sweep-ms:600000}",
+            fixedDelayString = "${app.auth.revocation.sweep-ms:600000}"
+    )
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        // 재생성 도중 revoke() 된 항목이 이전 필터에만 기록되지 않도록 교체 후 한 번 더 채움
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        bloom = rebuilt;
+        revoked.keySet().forEach(rebuilt::put);
+
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        log.info("폐기 토큰 목록 정리: 메모리 {} -> {}건, 테이블 {}건 삭제", before, revoked.size(), deleted);
+    }
+
+    /**
+     * 문자열 키용 Bloom filter
+     *  - 다이제스트는 이미 균일한 해시값이므로 FNV-1a 64비트 한 번으로 두 해시(h1, h2)를 얻고, i번째 위치는 h1 + i * h2
+     *  - 비트 배열은 AtomicLongArray 라 put/mightContain 을 잠금 없이 동시에 호출할 수 있다.
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, (m + 63) / 64 * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) (bitSize / 64));
+        }
+
+        void put(String key) {
+            long hash = fnv1a(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitSize;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = fnv1a(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitSize;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long fnv1a(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.back.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 목록 조회 전용 프로젝션
+ *  - 목록 화면에 필요한 컬럼만 조회 (content/description 제외, users/categories 조인 없음)
+ *  - 카테고리 이름은 category_id 로 CategoryDictionary 에서 찾는다.
+ */
+public interface BookListItemView {
+
+    Long getBookId();
+
+    String getTitle();
+
+    Long getCategoryId();
+
+    String getImageUrl();   // 목록용 썸네일 (없으면 원본)
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
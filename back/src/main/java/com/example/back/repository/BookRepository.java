@@ -3,10 +3,113 @@ package com.example.back.repository;
 import com.example.back.entity.Book;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
-    Page<Book> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+
+    // 상세/수정/삭제용: 작성자와 카테고리를 한 번의 조인으로 함께 조회 (연관관계는 LAZY)
+    @EntityGraph(attributePaths = {"user", "categoryId"})
+    Optional<Book> findWithUserAndCategoryById(Long id);
+
+    // 일괄 조회용: WHERE book_id IN (...) 한 번으로 작성자/카테고리까지 조회
+    @EntityGraph(attributePaths = {"user", "categoryId"})
+    List<Book> findAllWithUserAndCategoryByIdIn(Collection<Long> ids);
+
+    // 상세 ETag 계산용: 엔티티 로딩 없이 마지막 변경 시각만 조회
+    @Query("select coalesce(b.updated_at, b.created_at) from Book b where b.id = :bookId")
+    Optional<LocalDateTime> findLastModifiedById(@Param("bookId") Long bookId);
+
+    // ===== 목록 조회 전용 (BookListItemView 프로젝션, 엔티티 생성/조인 없음) =====
+
+    // COUNT 없이 size+1 건만 조회하여 다음 페이지 존재 여부(hasNext) 판단
+    @Query("select b.id as bookId, b.title as title, b.categoryId.id as categoryId, coalesce(b.thumbnailUrl, b.imageUrl) as imageUrl, "
+            + "b.created_at as createdAt, b.updated_at as updatedAt "
+            + "from Book b")
+    Slice<BookListItemView> findListItemSlice(Pageable pageable);
+
+    // 커서(keyset) 페이지네이션: book_id < ? 로 탐색, COUNT 쿼리 없음
+    @Query("select b.id as bookId, b.title as title, b.categoryId.id as categoryId, coalesce(b.thumbnailUrl, b.imageUrl) as imageUrl, "
+            + "b.created_at as createdAt, b.updated_at as updatedAt "
+            + "from Book b "
+            + "where b.id < :lastBookId")
+    Slice<BookListItemView> findListItemsBefore(@Param("lastBookId") Long lastBookId, Pageable pageable);
+
+    // 카테고리별 목록 (idx_books_category_book: category_id, book_id DESC)
+    @Query("select b.id as bookId, b.title as title, b.categoryId.id as categoryId, coalesce(b.thumbnailUrl, b.imageUrl) as imageUrl, "
+            + "b.created_at as createdAt, b.updated_at as updatedAt "
+            + "from Book b "
+            + "where b.categoryId.id = :categoryId")
+    Slice<BookListItemView> findListItemSliceByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    // 카테고리별 커서(keyset) 페이지네이션: category_id = ? AND book_id < ?
+    @Query("select b.id as bookId, b.title as title, b.categoryId.id as categoryId, coalesce(b.thumbnailUrl, b.imageUrl) as imageUrl, "
+            + "b.created_at as createdAt, b.updated_at as updatedAt "
+            + "from Book b "
+            + "where b.categoryId.id = :categoryId and b.id < :lastBookId")
+    Slice<BookListItemView> findListItemsByCategoryBefore(@Param("categoryId") Long categoryId,
+                                                          @Param("lastBookId") Long lastBookId,
+                                                          Pageable pageable);
+
+    // 현재 가장 큰 book_id (없으면 0)
+    @Query("select coalesce(max(b.id), 0) from Book b")
+    Long findMaxId();
+
+    // ID 오름차순 keyset 조회 (자동완성 색인 적재용, lastBookId 이후 size 건)
+    @Query("select b.id as bookId, b.title as title from Book b where b.id > :lastBookId order by b.id asc")
+    List<BookTitleView> findTitlesAfter(@Param("lastBookId") Long lastBookId, Pageable pageable);
+
+    // ID 내림차순 keyset 조회 (자동완성 색인 재동기화용, 최신 도서부터 lastBookId 미만 size 건)
+    @Query("select b.id as bookId, b.title as title from Book b where b.id < :lastBookId order by b.id desc")
+    List<BookTitleView> findTitlesBefore(@Param("lastBookId") Long lastBookId, Pageable pageable);
+
+    // 카테고리별 도서 수 (BookCountCache 재동기화용) → [categoryId, count]
+    @Query("select b.categoryId.id, count(b) from Book b group by b.categoryId.id")
+    List<Object[]> countGroupByCategory();
+
+    // 제목 LIKE 검색 (FULLTEXT 를 쓸 수 없을 때의 대체 경로)
+    @Query(
+            value = "select b.id as bookId, b.title as title, b.categoryId.id as categoryId, coalesce(b.thumbnailUrl, b.imageUrl) as imageUrl, "
+                    + "b.created_at as createdAt, b.updated_at as updatedAt "
+                    + "from Book b "
+                    + "where lower(b.title) like lower(concat('%', :title, '%'))",
+            countQuery = "select count(b) from Book b where lower(b.title) like lower(concat('%', :title, '%'))"
+    )
+    Page<BookListItemView> searchListItemsByTitleLike(@Param("title") String title, Pageable pageable);
+
+    @Query("select b.id as bookId, b.title as title, b.categoryId.id as categoryId, coalesce(b.thumbnailUrl, b.imageUrl) as imageUrl, "
+            + "b.created_at as createdAt, b.updated_at as updatedAt "
+            + "from Book b "
+            + "where lower(b.title) like lower(concat('%', :title, '%'))")
+    Slice<BookListItemView> searchListItemSliceByTitleLike(@Param("title") String title, Pageable pageable);
+
+    // FULLTEXT(ngram) 인덱스 기반 제목 검색 (BOOLEAN MODE 구문 검색 = 부분 일치)
+    @Query(
+            value = "SELECT b.book_id AS bookId, b.title AS title, b.category_id AS categoryId, COALESCE(b.thumbnail_url, b.image_url) AS imageUrl, "
+                    + "b.created_at AS createdAt, b.updated_at AS updatedAt "
+                    + "FROM books b "
+                    + "WHERE MATCH(b.title) AGAINST(:query IN BOOLEAN MODE) ORDER BY b.book_id DESC",
+            countQuery = "SELECT COUNT(*) FROM books WHERE MATCH(title) AGAINST(:query IN BOOLEAN MODE)",
+            nativeQuery = true
+    )
+    Page<BookListItemView> searchListItemsByTitleFullText(@Param("query") String query, Pageable pageable);
+
+    @Query(
+            value = "SELECT b.book_id AS bookId, b.title AS title, b.category_id AS categoryId, COALESCE(b.thumbnail_url, b.image_url) AS imageUrl, "
+                    + "b.created_at AS createdAt, b.updated_at AS updatedAt "
+                    + "FROM books b "
+                    + "WHERE MATCH(b.title) AGAINST(:query IN BOOLEAN MODE) ORDER BY b.book_id DESC",
+            nativeQuery = true
+    )
+    Slice<BookListItemView> searchListItemSliceByTitleFullText(@Param("query") String query, Pageable pageable);
 }
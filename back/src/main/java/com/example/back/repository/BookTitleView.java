@@ -0,0 +1,11 @@
+package com.example.back.repository;
+
+/**
+ * 도서 ID + 제목만 조회하는 프로젝션 (자동완성 색인 적재용)
+ */
+public interface BookTitleView {
+
+    Long getBookId();
+
+    String getTitle();
+}
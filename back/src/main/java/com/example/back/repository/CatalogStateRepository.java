@@ -0,0 +1,27 @@
+package com.example.back.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.back.entity.CatalogState;
+
+public interface CatalogStateRepository extends JpaRepository<CatalogState, Long> {
+
+    @Query("select c.version from CatalogState c where c.id = :id")
+    Optional<Long> findVersion(@Param("id") Long id);
+
+    // 행이 없으면 1 로 생성, 있으면 +1 (한 문장, 호출한 트랜잭션이 커밋될 때까지 행 잠금)
+    @Transactional
+    @Modifying
+    @Query(
+            value = "INSERT INTO catalog_state (id, version) VALUES (:id, 1) "
+                    + "ON DUPLICATE KEY UPDATE version = version + 1",
+            nativeQuery = true
+    )
+    int increment(@Param("id") Long id);
+}
@@ -0,0 +1,92 @@
+package com.example.back.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.back.entity.CoverJob;
+
+public interface CoverJobRepository extends JpaRepository<CoverJob, Long> {
+
+    // 실행 시각이 된 대기 작업 (오래된 순)
+    @Query("select j from CoverJob j where j.status = :status and j.nextAttemptAt <= :now order by j.id asc")
+    List<CoverJob> findDue(@Param("status") CoverJob.Status status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 작업 선점: 다른 인스턴스/스레드가 먼저 가져갔으면 0
+    @Transactional
+    @Modifying
+    @Query("update CoverJob j set j.status = :to, j.attempts = j.attempts + 1, j.updatedAt = :now "
+            + "where j.id = :id and j.status = :from")
+    int claim(@Param("id") Long id,
+              @Param("from") CoverJob.Status from,
+              @Param("to") CoverJob.Status to,
+              @Param("now") LocalDateTime now);
+
+    // 같은 도서의 대기 중인 이전 작업 취소 (도서 등록/수정 트랜잭션 안에서 호출)
+    @Modifying
+    @Query("update CoverJob j set j.status = :to, j.updatedAt = :now where j.bookId = :bookId and j.status = :from")
+    int cancelPending(@Param("bookId") Long bookId,
+                      @Param("from") CoverJob.Status from,
+                      @Param("to") CoverJob.Status to,
+                      @Param("now") LocalDateTime now);
+
+    // 처리 중 인스턴스가 종료되어 RUNNING 으로 남은 작업을 다시 대기 상태로 (시도 횟수가 남은 작업만)
+    @Transactional
+    @Modifying
+    @Query("update CoverJob j set j.status = :to, j.updatedAt = :now "
+            + "where j.status = :from and j.updatedAt < :before and j.attempts < :maxAttempts")
+    int requeueStale(@Param("from") CoverJob.Status from,
+                     @Param("to") CoverJob.Status to,
+                     @Param("before") LocalDateTime before,
+                     @Param("maxAttempts") int maxAttempts,
+                     @Param("now") LocalDateTime now);
+
+    // RUNNING 에 멈춘 채 시도 횟수를 다 쓴 작업 (매번 처리 중 종료되는 작업이 무한히 재시도되지 않도록)
+    @Query("select j from CoverJob j where j.status = :status and j.updatedAt < :before and j.attempts >= :maxAttempts")
+    List<CoverJob> findStaleExhausted(@Param("status") CoverJob.Status status,
+                                      @Param("before") LocalDateTime before,
+                                      @Param("maxAttempts") int maxAttempts);
+
+    // 멈춘 작업 종료 처리: 그 사이 다른 인스턴스가 결과를 기록했으면 0
+    @Modifying
+    @Query("update CoverJob j set j.status = :to, j.lastError = :error, j.updatedAt = :now "
+            + "where j.id = :id and j.status = :from and j.updatedAt < :before")
+    int finishStale(@Param("id") Long id,
+                    @Param("from") CoverJob.Status from,
+                    @Param("to") CoverJob.Status to,
+                    @Param("before") LocalDateTime before,
+                    @Param("error") String error,
+                    @Param("now") LocalDateTime now);
+
+    // 작업 성공 기록: 아직 이 시도가 선점 중일 때만 (RUNNING + attempts 일치), 아니면 0
+    //  - 멈춘 작업으로 재등록/재선점된 뒤 늦게 끝난 이전 시도가 새 시도의 결과를 덮어쓰지 않도록
+    @Modifying
+    @Query("update CoverJob j set j.status = :to, j.updatedAt = :now "
+            + "where j.id = :id and j.status = :from and j.attempts = :attempt")
+    int completeClaimed(@Param("id") Long id,
+                        @Param("from") CoverJob.Status from,
+                        @Param("to") CoverJob.Status to,
+                        @Param("attempt") int attempt,
+                        @Param("now") LocalDateTime now);
+
+    // 작업 실패 기록 (재시도 대기 또는 최종 실패): completeClaimed 와 같은 선점 조건
+    @Modifying
+    @Query("update CoverJob j set j.status = :to, j.nextAttemptAt = :nextAttemptAt, j.lastError = :error, j.updatedAt = :now "
+            + "where j.id = :id and j.status = :from and j.attempts = :attempt")
+    int failClaimed(@Param("id") Long id,
+                    @Param("from") CoverJob.Status from,
+                    @Param("to") CoverJob.Status to,
+                    @Param("attempt") int attempt,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                    @Param("error") String error,
+                    @Param("now") LocalDateTime now);
+
+    // 같은 도서에 더 최근 작업이 있는지 (이전 작업 결과가 새 표지를 덮어쓰지 않도록)
+    boolean existsByBookIdAndIdGreaterThan(Long bookId, Long id);
+}
@@ -3,11 +3,24 @@ package com.example.back.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.back.entity.RefreshToken;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByUserId(String userId);  // PK가 아니라 user_id 컬럼 기반 조회
     void deleteByUserId(String userId);
-}
 
+    // user_id(UNIQUE) 기준 저장/갱신을 한 문장으로 처리 (조회 후 저장 대비 왕복 1회, 동시 로그인에도 중복 INSERT 없음)
+    @Transactional
+    @Modifying
+    @Query(
+            value = "INSERT INTO refresh_token (user_id, token, expiry) VALUES (:userId, :token, :expiry) "
+                    + "ON DUPLICATE KEY UPDATE token = VALUES(token), expiry = VALUES(expiry)",
+            nativeQuery = true
+    )
+    int upsert(@Param("userId") String userId, @Param("token") String token, @Param("expiry") Long expiry);
+}
@@ -0,0 +1,34 @@
+package com.example.back.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.back.entity.RevokedToken;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // since 이후 폐기된 만료 전 토큰 (기동 시 전체 적재 / 다른 인스턴스 변경 동기화, 호출 측이 겹치는 구간을 줘서 늦은 커밋 보완)
+    @Query("select r from RevokedToken r where r.revokedAt > :since and r.expiresAt > :now")
+    List<RevokedToken> findActiveRevokedSince(@Param("since") LocalDateTime since, @Param("now") Long now);
+
+    // token_digest(UNIQUE) 기준 폐기 기록 (이미 있으면 그대로 → 동시 로그아웃/다른 인스턴스가 먼저 폐기한 토큰도 중복 INSERT 오류 없음)
+    @Transactional
+    @Modifying
+    @Query(
+            value = "INSERT INTO revoked_tokens (token_digest, expires_at, revoked_at) VALUES (:digest, :expiresAt, :revokedAt) "
+                    + "ON DUPLICATE KEY UPDATE expires_at = VALUES(expires_at)",
+            nativeQuery = true
+    )
+    int insertIfAbsent(@Param("digest") String digest, @Param("expiresAt") Long expiresAt, @Param("revokedAt") LocalDateTime revokedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Long now);
+}
@@ -0,0 +1,11 @@
+package com.example.back.repository;
+
+/**
+ * chunk 번호별 시딩된 도서 수 (모든 프로필 합계, 이어하기용)
+ */
+public interface SeedChunkProgressView {
+
+    Integer getChunkNo();
+
+    Long getBookCount();
+}
@@ -0,0 +1,15 @@
+package com.example.back.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.example.back.entity.SeedChunk;
+
+public interface SeedChunkRepository extends JpaRepository<SeedChunk, Long> {
+
+    // chunk 번호별 이미 들어간 도서 수 (프로필 무관, 작은 프로필에서 큰 프로필로 이어하기용)
+    @Query("select s.chunkNo as chunkNo, sum(s.bookCount) as bookCount from SeedChunk s group by s.chunkNo")
+    List<SeedChunkProgressView> findProgressByChunkNo();
+}
@@ -8,9 +8,9 @@ import java.util.Map;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.example.back.DTO.LoginRequest;
@@ -19,6 +19,7 @@ import com.example.back.DTO.UpdateRequest;
 import com.example.back.entity.RefreshToken;
 import com.example.back.entity.User;
 import com.example.back.jwt.JwtUtil;
+import com.example.back.jwt.JwtVerifier;
 import com.example.back.repository.RefreshTokenRepository;
 import com.example.back.repository.UserRepository;
 
@@ -30,7 +31,10 @@ public class AuthService {
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtUtil jwtUtil;
-    private final PasswordEncoder passwordEncoder;
+    private final JwtVerifier jwtVerifier;
+    private final PasswordHasher passwordHasher;
+    // 비밀번호 해시(수백 ms) 동안 DB 커넥션을 잡지 않도록 DB 작업만 짧은 트랜잭션으로 묶는다
+    private final TransactionTemplate transactionTemplate;
 
     public void signup(SignupRequest req, String apiKey) {
         /**
@@ -59,7 +63,7 @@ public class AuthService {
 
         User user = new User();
         user.setId(req.getId());
-        user.setPw(passwordEncoder.encode(req.getPw()));
+        user.setPw(passwordHasher.encode(req.getPw()));
         user.setName(req.getName());
         // API Key 저장 (null 허용)
         if (apiKey != null && !apiKey.isBlank()) {
@@ -116,7 +120,7 @@ public class AuthService {
             });
 
         // 2) 비밀번호 불일치
-        if (!passwordEncoder.matches(req.getPw(), user.getPw())) {
+        if (!passwordHasher.matches(req.getPw(), user.getPw())) {
             log.warn("로그인 실패 - 비밀번호 불일치: id={}", req.getId());
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "비밀번호가 일치하지 않습니다.");
         }
@@ -126,19 +130,9 @@ public class AuthService {
         String refreshToken = jwtUtil.createRefreshToken(user.getId());
         Long expiry = System.currentTimeMillis() + (14L * 24 * 60 * 60 * 1000);
 
-        // 4) Refresh Token 저장 처리
+        // 4) Refresh Token 저장 처리 (user_id 기준 upsert 한 문장)
         try {
-            RefreshToken savedToken = refreshTokenRepository.findByUserId(user.getId()).orElse(null);
-
-            if (savedToken == null) {
-                savedToken = new RefreshToken(user, refreshToken, expiry);
-                log.info("Refresh Token 신규 생성: userId={}", user.getId());
-            } else {
-                savedToken.updateToken(refreshToken, expiry);
-                log.info("기존 Refresh Token 업데이트: userId={}", user.getId());
-            }
-
-            refreshTokenRepository.save(savedToken);
+            refreshTokenRepository.upsert(user.getId(), refreshToken, expiry);
             log.info("Refresh Token 저장 완료: userId={}", user.getId());
 
         } catch (DataAccessException e) {
@@ -166,7 +160,7 @@ public class AuthService {
          *
          * - Access Token에서 userId 추출
          * - 저장된 Refresh Token 삭제
-         * - Access Token은 클라이언트 단에서 제거됨
+         * - Access Token 폐기 (만료 전까지 재사용 불가)
          *
          * @param token 클라이언트 JWT Access Token
          */
@@ -181,7 +175,7 @@ public class AuthService {
 
         try {
             // 1) 토큰 유효성 검사 + userId 추출
-            userId = jwtUtil.getUserId(token);
+            userId = jwtVerifier.getUserId(token);
         } catch (Exception e) {
             log.warn("로그아웃 실패 - 유효하지 않은 토큰: token={}", token);
             throw new RuntimeException("유효하지 않은 토큰입니다.");
@@ -197,66 +191,81 @@ public class AuthService {
             throw new RuntimeException("로그아웃 처리 중 오류가 발생했습니다.");
         }
 
+        try {
+            // 3) Access Token 폐기
+            jwtVerifier.revoke(token);
+            log.info("Access Token 폐기 완료: userId={}", userId);
+
+        } catch (Exception e) {
+            log.error("Access Token 폐기 중 오류 발생: userId={}, error={}", userId, e.toString());
+            throw new RuntimeException("로그아웃 처리 중 오류가 발생했습니다.");
+        }
+
         log.info("로그아웃 처리 완료: userId={}", userId);
     }
     
-    @Transactional
     public void updateUser(String token, UpdateRequest req, String apiKey) {
         /**
          * 회원정보 수정 서비스 로직
          * - token -> userId 추출
-         * - 사용자 조회
-         * - 전달된 name, pw, apiKey 중 존재하는 값만 업데이트
+         * - 비밀번호 해시는 트랜잭션 밖에서 먼저 계산 (해시 대기 중 커넥션 점유 방지)
+         * - 사용자 조회 후 전달된 name, pw, apiKey 중 존재하는 값만 업데이트 (짧은 트랜잭션)
          */
 
         log.info("회원정보 수정 처리 시작");
 
         // 1) JWT에서 userId 추출
-        String userId = jwtUtil.getUserId(token);
+        String userId = jwtVerifier.getUserId(token);
 
         if (userId == null || userId.isBlank()) {
             throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
         }
 
-        // 2) 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        // 3-1) 이름 변경 (req 기반)
-        if (req.getName() != null && !req.getName().isBlank()) {
-            user.setName(req.getName());
-            log.info("사용자 이름 변경: {}", req.getName());
-        }
-
-        // 3-2) 비밀번호 변경 (req 기반)
+        // 2) 비밀번호 해시 (트랜잭션 밖)
+        String encodedPw = null;
         if (req.getPw() != null && !req.getPw().isBlank()) {
-            String encodedPw = passwordEncoder.encode(req.getPw());
-            user.setPw(encodedPw);
-            log.info("사용자 비밀번호 변경");
+            encodedPw = passwordHasher.encode(req.getPw());
         }
+        String newPw = encodedPw;
 
-        // 3-3) API Key 변경 
-        log.info("사용자 API Key: {}", apiKey);
-        if (apiKey != null && !apiKey.isBlank()) {
-            user.setApiKey(apiKey);
-            log.info("사용자 API Key 변경: {}", apiKey);
-        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // 3) 사용자 조회
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        // 4) 저장
-        userRepository.save(user);
+            // 4-1) 이름 변경 (req 기반)
+            if (req.getName() != null && !req.getName().isBlank()) {
+                user.setName(req.getName());
+                log.info("사용자 이름 변경: {}", req.getName());
+            }
+
+            // 4-2) 비밀번호 변경 (미리 계산한 해시)
+            if (newPw != null) {
+                user.setPw(newPw);
+                log.info("사용자 비밀번호 변경");
+            }
+
+            // 4-3) API Key 변경 
+            log.info("사용자 API Key: {}", apiKey);
+            if (apiKey != null && !apiKey.isBlank()) {
+                user.setApiKey(apiKey);
+                log.info("사용자 API Key 변경: {}", apiKey);
+            }
+
+            // 5) 저장
+            userRepository.save(user);
+        });
 
         log.info("회원정보 수정 완료: userId={}", userId);
     }
 
-    @Transactional
     public void deleteUser(String token, String pw) {
         /**
          * 회원 탈퇴 서비스 로직
          * - token → userId 추출
          * - userId로 사용자 조회
-         * - 비밀번호 검증
-         * - Refresh Token 삭제
-         * - DB에서 사용자 삭제
+         * - 비밀번호 검증 (트랜잭션 밖 - 해시 대기 중 커넥션 점유 방지)
+         * - Refresh Token 삭제 + Access Token 폐기 + 사용자 삭제 (하나의 짧은 트랜잭션)
          *
          * @param token JWT Access Token
          * @param pw    비밀번호 (본인 확인용)
@@ -271,7 +280,7 @@ public class AuthService {
 
         // 1) 토큰 검증 및 userId 추출
         try {
-            userId = jwtUtil.getUserId(token);
+            userId = jwtVerifier.getUserId(token);
             log.info("JWT 검증 성공: userId={}", userId);
         } catch (Exception e) {
             log.warn("회원 탈퇴 실패 - 토큰 검증 실패: token={}", token);
@@ -286,28 +295,39 @@ public class AuthService {
             });
 
         // 3) 비밀번호 검증
-        if (!passwordEncoder.matches(pw, user.getPw())) {
+        if (!passwordHasher.matches(pw, user.getPw())) {
             log.warn("회원 탈퇴 실패 - 비밀번호 불일치: userId={}", userId);
             throw new RuntimeException("사용자 정보를 찾을 수 없습니다.");
         }
 
-        // 4) Refresh Token 삭제 (외래키 문제 예방)
-        try {
-            refreshTokenRepository.deleteByUserId(userId);
-            log.info("Refresh Token 삭제 완료: userId={}", userId);
-        } catch (Exception e) {
-            log.error("회원 탈퇴 실패 - Refresh Token 삭제 중 오류: userId={}, error={}", userId, e.toString());
-            throw new RuntimeException("회원 탈퇴 처리 중 오류가 발생했습니다.");
-        }
+        // 4) Refresh Token 삭제 → Access Token 폐기 → 사용자 삭제 (DB 작업만 트랜잭션)
+        transactionTemplate.executeWithoutResult(status -> {
+            // 4-1) Refresh Token 삭제 (외래키 문제 예방)
+            try {
+                refreshTokenRepository.deleteByUserId(userId);
+                    log.info("Refresh Token 삭제 완료: userId={}", userId);
+            } catch (Exception e) {
+                log.error("회원 탈퇴 실패 - Refresh Token 삭제 중 오류: userId={}, error={}", userId, e.toString());
+                throw new RuntimeException("회원 탈퇴 처리 중 오류가 발생했습니다.");
+            }
 
-        // 5) 사용자 삭제
-        try {
-            userRepository.delete(user);
-            log.info("회원 탈퇴 처리 완료: userId={}", userId);
-        } catch (Exception e) {
-            log.error("회원 탈퇴 실패 - User 삭제 중 오류: userId={}, error={}", userId, e.toString());
-            throw new RuntimeException("회원 탈퇴 처리 중 오류가 발생했습니다.");
-        }
+            // 4-2) Access Token 폐기
+            try {
+                jwtVerifier.revoke(token);
+            } catch (Exception e) {
+                log.error("회원 탈퇴 실패 - Access Token 폐기 중 오류: userId={}, error={}", userId, e.toString());
+                throw new RuntimeException("회원 탈퇴 처리 중 오류가 발생했습니다.");
+            }
+
+            // 5) 사용자 삭제
+            try {
+                userRepository.delete(user);
+                log.info("회원 탈퇴 처리 완료: userId={}", userId);
+            } catch (Exception e) {
+                log.error("회원 탈퇴 실패 - User 삭제 중 오류: userId={}, error={}", userId, e.toString());
+                throw new RuntimeException("회원 탈퇴 처리 중 오류가 발생했습니다.");
+            }
+        });
     }
 
     public String validateAccessToken(String token) {
@@ -317,7 +337,13 @@ public class AuthService {
          * - 그 외:Exception
          */
         log.info("토큰 유효성 검증 시작");
-        return jwtUtil.validateToken(token);
+        String result = jwtUtil.validateToken(token);
+
+        if (jwtVerifier.isRevoked(token)) {
+            log.warn("토큰 유효성 검증 실패 - 폐기된 토큰");
+            throw new RuntimeException("폐기된 토큰입니다.");
+        }
+        return result;
     }
 
     public String reissueAccessToken(String refreshToken) {
@@ -345,7 +371,7 @@ public class AuthService {
             throw new RuntimeException("사용자 정보를 확인할 수 없습니다. 다시 로그인해주세요.");
         }
 
-        // 3) DB에 저장된 Refresh Token 조회
+        // 3) DB에 저장된 Refresh Token 조회 (user_id 기준 한 문장)
         RefreshToken savedToken = refreshTokenRepository.findByUserId(userId)
                 .orElseThrow(() -> {
                     log.warn("DB에 저장된 Refresh Token 없음: userId={}", userId);
@@ -371,7 +397,6 @@ public class AuthService {
         return newAccessToken;
     }
 
-
     public String getUserApiKey(String token) {
         /**
          * API Key 조회 서비스
@@ -393,7 +418,7 @@ public class AuthService {
         log.info("API Key 조회 처리 시작");
 
         // 1) JWT에서 userId 추출
-        String userId = jwtUtil.getUserId(token);
+        String userId = jwtVerifier.getUserId(token);
         log.info("JWT 토큰 검증 완료: userId={}", userId);
 
         if (userId == null || userId.isBlank()) {
@@ -442,7 +467,7 @@ public class AuthService {
         // 1) JWT에서 userId 추출
         String userId;
         try {
-            userId = jwtUtil.getUserId(accessToken);
+            userId = jwtVerifier.getUserId(accessToken);
             log.info("JWT 토큰 검증 완료: userId={}", userId);
         } catch (Exception e) {
             log.warn("사용자 정보 조회 실패 - 유효하지 않은 토큰");
@@ -0,0 +1,137 @@
+package com.example.back.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.back.event.BookChangedEvent;
+import com.example.back.event.BooksImportedEvent;
+import com.example.back.repository.BookRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 수 캐시 (전체 + 카테고리별)
+ *  - 목록 조회마다 SELECT COUNT(*) 를 실행하지 않도록 건수를 메모리에 유지한다.
+ *  - 도서 생성/수정(카테고리 변경)/삭제 커밋 시 증감하고, 주기적으로(reconcile-ms) DB 와 다시 맞춘다.
+ *    (다른 서버 인스턴스에서 발생한 변경도 이 주기 안에 반영됨)
+ */
+@Slf4j
+@Component
+public class BookCountCache {
+
+    private final BookRepository bookRepository;
+
+    private final AtomicLong total = new AtomicLong();
+    private final Map<Long, AtomicLong> byCategory = new ConcurrentHashMap<>();
+    private volatile boolean initialized = false;
+
+    public BookCountCache(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    public long getTotal() {
+        if (!initialized) {
+            reconcile();
+        }
+        return total.get();
+    }
+
+    public long getCategoryCount(Long categoryId) {
+        if (!initialized) {
+            reconcile();
+        }
+        AtomicLong count = byCategory.get(categoryId);
+        return count == null ? 0L : count.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (!initialized) {
+            return; // 최초 reconcile 시 DB 값으로 채워짐
+        }
+
+        switch (event.getType()) {
+            case CREATED -> {
+                total.incrementAndGet();
+                increment(event.getCategoryId());
+            }
+            case DELETED -> {
+                decrement(total);
+                decrement(byCategory.get(event.getCategoryId()));
+            }
+            case UPDATED -> {
+                if (event.getPreviousCategoryId() != null
+                        && !event.getPreviousCategoryId().equals(event.getCategoryId())) {
+                    decrement(byCategory.get(event.getPreviousCategoryId()));
+                    increment(event.getCategoryId());
+                }
+            }
+        }
+    }
+
+    // 일괄 등록은 행 수가 많으므로 증감 대신 DB 와 다시 맞춤
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        reconcile();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reconcile();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.cache.book-count.reconcile-ms:300000}",
+            fixedDelayString = "${app.cache.book-count.reconcile-ms:300000}"
+    )
+    public synchronized void reconcile() {
+        // category_id 별 건수 한 번 조회 (idx_books_category_book 인덱스 사용) → 합계가 전체 건수
+        List<Object[]> rows = bookRepository.countGroupByCategory();
+
+        Map<Long, Long> counted = new HashMap<>();
+        long countedTotal = 0;
+        for (Object[] row : rows) {
+            long count = ((Number) row[1]).longValue();
+            counted.put(((Number) row[0]).longValue(), count);
+            countedTotal += count;
+        }
+
+        long previous = total.getAndSet(countedTotal);
+        boolean changed = previous != countedTotal;
+
+        for (Map.Entry<Long, Long> entry : counted.entrySet()) {
+            AtomicLong current = byCategory.computeIfAbsent(entry.getKey(), k -> new AtomicLong());
+            if (current.getAndSet(entry.getValue()) != entry.getValue()) {
+                changed = true;
+            }
+        }
+        byCategory.keySet().retainAll(counted.keySet());
+
+        initialized = true;
+
+        if (changed) {
+            log.info("도서 건수 캐시 보정: 전체 {} -> {}, 카테고리 {}종", previous, countedTotal, counted.size());
+        }
+    }
+
+    private void increment(Long categoryId) {
+        if (categoryId != null) {
+            byCategory.computeIfAbsent(categoryId, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private void decrement(AtomicLong count) {
+        if (count != null) {
+            count.updateAndGet(v -> Math.max(0, v - 1));
+        }
+    }
+}
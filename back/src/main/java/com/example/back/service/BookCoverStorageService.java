@@ -5,18 +5,48 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
 public class BookCoverStorageService {
 
+    // 목록용 / 상세용 썸네일 너비
+    public static final int THUMBNAIL_WIDTH = 200;
+    public static final int PREVIEW_WIDTH = 400;
+
+    /**
+     * 저장된 표지 URL
+     * @param imageUrl     원본
+     * @param thumbnailUrl 200w JPEG (원본이 더 작거나 생성 실패 시 null)
+     * @param previewUrl   400w JPEG (원본이 더 작거나 생성 실패 시 null)
+     */
+    public record StoredCover(String imageUrl, String thumbnailUrl, String previewUrl) {
+    }
+
     private final S3Client s3Client;
+    private final ImageFetcher imageFetcher;
+    private final CoverThumbnailer coverThumbnailer;
 
     @Value("${app.s3.bucket}")
     private String bucket;
@@ -27,49 +57,41 @@ public class BookCoverStorageService {
     @Value("${app.s3.region:ap-southeast-1}")
     private String region;
 
-    public BookCoverStorageService(S3Client s3Client) {
+    // 표지 이미지 최대 크기 (초과 시 읽기 중단)
+    @Value("${app.covers.max-bytes:10485760}")
+    private long maxBytes;
+
+    // Content-Length 가 없을 때 multipart 업로드 part 크기 (S3 최소 5MB)
+    @Value("${app.covers.multipart-part-size:5242880}")
+    private int partSize;
+
+    public BookCoverStorageService(S3Client s3Client, ImageFetcher imageFetcher, CoverThumbnailer coverThumbnailer) {
         this.s3Client = s3Client;
+        this.imageFetcher = imageFetcher;
+        this.coverThumbnailer = coverThumbnailer;
     }
 
     /**
      * imageUrl(원본 이미지 URL)을 받아서 S3에 업로드하고
-     * 업로드된 S3 URL을 반환한다.
+     * 업로드된 S3 URL(원본 + 썸네일)을 반환한다. (실패 시 null)
+     *  - key 에 작업 ID 를 넣어 표지마다 다른 URL 이 되게 한다. (같은 key 덮어쓰기 → CDN/브라우저가 이전 표지를 계속 보여주는 문제 방지)
+     *  - 같은 작업의 재시도는 같은 key 를 덮어쓰므로 실패한 시도의 객체가 남지 않는다.
      */
-    public String saveCoverFromUrl(String imageUrl, Long bookId) {
+    public StoredCover saveCoverFromUrl(String imageUrl, Long bookId, Long jobId) {
         if (imageUrl == null || imageUrl.isBlank()) {
             log.warn("imageUrl이 비어있음 → 업로드 스킵: bookId={}", bookId);
             return null;
         }
 
-        HttpURLConnection conn = null;
-        try {
-            URL url = new URL(imageUrl);
-            conn = (HttpURLConnection) url.openConnection();
-
-            conn.setRequestMethod("GET");
-
-            //  리다이렉트(302 등) 허용
-            conn.setInstanceFollowRedirects(true);
-
-            //  타임아웃 조금 여유 있게
-            conn.setConnectTimeout(7000);
-            conn.setReadTimeout(15000);
-
-            //  봇 차단(403) 회피용 헤더
-            conn.setRequestProperty("User-Agent",
-                    "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 " +
-                            "(KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
-            conn.setRequestProperty("Accept", "image/avif,image/webp,image/apng,image/*,*/*;q=0.8");
-            conn.setRequestProperty("Accept-Language", "en-US,en;q=0.9");
-            conn.setRequestProperty("Connection", "close");
+        try (ImageFetcher.Response response = imageFetcher.fetch(imageUrl)) {
 
-            int status = conn.getResponseCode();
-            String contentType = conn.getContentType();
+            int status = response.status();
+            String contentType = response.contentType();
 
             log.info("이미지 URL 응답: status={}, contentType={}, url={}", status, contentType, imageUrl);
 
-            //  200~399 허용 (리다이렉트 포함)
-            if (status < 200 || status >= 400) {
+            //  2xx 만 허용 (리다이렉트는 HttpClient 가 따라감)
+            if (status < 200 || status >= 300) {
                 log.warn("유효하지 않은 상태코드로 저장 중단: status={}, url={}", status, imageUrl);
                 return null;
             }
@@ -80,40 +102,189 @@ public class BookCoverStorageService {
                 return null;
             }
 
-            byte[] bytes;
-            try (InputStream in = conn.getInputStream();
-                 ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-                in.transferTo(bos);
-                bytes = bos.toByteArray();
-            }
-
             //  content-type 기반 확장자 결정
             String ext = guessExt(contentType);
 
-            // S3 저장 key (폴더처럼 보이게 prefix 사용)
-            String key = prefix + bookId + "." + ext;
+            // S3 저장 key (폴더처럼 보이게 prefix 사용, 도서 ID + 작업 ID)
+            String baseKey = prefix + bookId + "_" + jobId;
+            String key = baseKey + "." + ext;
+
+            //  응답 본문을 메모리에 모으지 않고 바로 S3 로 전달 (max-bytes 초과 시 중단)
+            long contentLength = response.contentLength();
+            if (contentLength > maxBytes) {
+                log.warn("이미지 크기 제한 초과로 저장 중단: contentLength={}, maxBytes={}, url={}", contentLength, maxBytes, imageUrl);
+                return null;
+            }
+
+            //  썸네일 생성을 위해 S3 로 보내는 바이트를 임시 파일에도 기록 (힙에는 버퍼만 유지)
+            Path spool = Files.createTempFile("cover-" + bookId + "-", "." + ext);
+            try {
+                try (InputStream in = new TeeInputStream(new LimitedInputStream(response.body(), maxBytes),
+                        new BufferedOutputStream(Files.newOutputStream(spool)))) {
+                    if (contentLength >= 0) {
+                        putStreaming(key, contentType, in, contentLength);
+                    } else {
+                        putChunked(key, contentType, in);
+                    }
+                } catch (SizeLimitExceededException e) {
+                    log.warn("이미지 크기 제한 초과로 저장 중단: maxBytes={}, url={}", maxBytes, imageUrl);
+                    return null;
+                }
+                log.info("S3 업로드 완료: s3://{}/{}", bucket, key);
+
+                // S3 URL 반환(버킷이 public 읽기 가능해야 브라우저에서 직접 열림)
+                String publicUrl = publicUrl(key);
+                log.info("S3 public URL: {}", publicUrl);
+
+                Map<Integer, String> variants = putThumbnails(spool, baseKey, bookId);
+                return new StoredCover(publicUrl, variants.get(THUMBNAIL_WIDTH), variants.get(PREVIEW_WIDTH));
+            } finally {
+                Files.deleteIfExists(spool);
+            }
+
+        } catch (Exception e) {
+            log.error("S3 업로드 실패: bookId={}, url={}, err={}", bookId, imageUrl, e.toString());
+            return null;
+        }
+    }
+
+    // 썸네일(200w/400w JPEG) 업로드 — 실패해도 원본 표지는 유지 (해당 변형만 null)
+    private Map<Integer, String> putThumbnails(Path original, String baseKey, Long bookId) {
+        Map<Integer, String> urls = new HashMap<>();
+        try {
+            Map<Integer, byte[]> rendered = coverThumbnailer.render(original, THUMBNAIL_WIDTH, PREVIEW_WIDTH);
+
+            for (Map.Entry<Integer, byte[]> entry : rendered.entrySet()) {
+                String key = baseKey + "_" + entry.getKey() + "w.jpg";
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .contentType("image/jpeg")
+                                .build(),
+                        RequestBody.fromBytes(entry.getValue()));
+                urls.put(entry.getKey(), publicUrl(key));
+                log.info("썸네일 업로드 완료: s3://{}/{} ({} bytes)", bucket, key, entry.getValue().length);
+            }
+        } catch (Exception e) {
+            log.warn("썸네일 생성 실패 - 원본만 사용: bookId={}, err={}", bookId, e.toString());
+        }
+        return urls;
+    }
+
+    /**
+     * 더 이상 쓰지 않는 표지 객체 삭제 (이전 표지 / 반영되지 않은 작업 결과)
+     *  - 이 버킷의 URL 만 삭제하고 외부 URL 은 건너뛴다.
+     *  - 실패해도 도서 데이터에는 영향이 없으므로 로그만 남긴다.
+     */
+    public void deleteCovers(String... urls) {
+        String base = publicUrl("");
+        for (String url : urls) {
+            if (url == null || !url.startsWith(base + prefix)) {
+                continue;
+            }
+            String key = url.substring(base.length());
+            try {
+                s3Client.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .build());
+                log.info("표지 객체 삭제: s3://{}/{}", bucket, key);
+            } catch (RuntimeException e) {
+                log.warn("표지 객체 삭제 실패: s3://{}/{}, err={}", bucket, key, e.toString());
+            }
+        }
+    }
+
+    private String publicUrl(String key) {
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    }
+
+    // Content-Length 를 아는 경우: 길이를 지정해 스트림 그대로 PUT
+    private void putStreaming(String key, String contentType, InputStream in, long contentLength) {
+        PutObjectRequest putReq = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType) //  실제 content-type 저장
+                .contentLength(contentLength)
+                .build();
+
+        s3Client.putObject(putReq, RequestBody.fromInputStream(in, contentLength));
+    }
+
+    /**
+     * Content-Length 를 모르는 경우(chunked 응답): part-size 버퍼 하나를 재사용하며 읽는다.
+     *  - 첫 part 를 채우기 전에 끝나면 일반 PUT 한 번
+     *  - 그보다 크면 multipart 업로드 (실패/크기 초과 시 abort 해서 조각이 남지 않게 함)
+     */
+    private void putChunked(String key, String contentType, InputStream in) throws IOException {
+        byte[] buffer = new byte[partSize];
+        int read = readFully(in, buffer);
 
+        if (read < partSize) {
             PutObjectRequest putReq = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
-                    .contentType(contentType) //  실제 content-type 저장
+                    .contentType(contentType)
+                    .contentLength((long) read)
                     .build();
+            s3Client.putObject(putReq, RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+            return;
+        }
 
-            s3Client.putObject(putReq, RequestBody.fromBytes(bytes));
-            log.info("S3 업로드 완료: s3://{}/{}", bucket, key);
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
 
-            // S3 URL 반환(버킷이 public 읽기 가능해야 브라우저에서 직접 열림)
-            String publicUrl = "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
-            log.info("S3 public URL: {}", publicUrl);
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
 
-            return publicUrl;
+            while (read > 0) {
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read)).eTag();
 
-        } catch (Exception e) {
-            log.error("S3 업로드 실패: bookId={}, url={}, err={}", bookId, imageUrl, e.toString());
-            return null;
-        } finally {
-            if (conn != null) conn.disconnect();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                partNumber++;
+                read = readFully(in, buffer);
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.info("S3 multipart 업로드 완료: key={}, parts={}", key, parts.size());
+
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    // buffer 가 가득 차거나 스트림이 끝날 때까지 읽기 (읽은 바이트 수 반환)
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int n = in.read(buffer, total, buffer.length - total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
         }
+        return total;
     }
 
     private String guessExt(String contentType) {
@@ -124,4 +295,85 @@ public class BookCoverStorageService {
         if (ct.contains("gif")) return "gif";
         return "png";
     }
+
+    // 읽은 바이트를 out 에도 기록 (close 시 out 도 닫음)
+    private static class TeeInputStream extends FilterInputStream {
+
+        private final OutputStream out;
+
+        TeeInputStream(InputStream in, OutputStream out) {
+            super(in);
+            this.out = out;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                out.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                out.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private static class SizeLimitExceededException extends IOException {
+        SizeLimitExceededException(long limit) {
+            super("이미지 크기 제한 초과: " + limit + " bytes");
+        }
+    }
+
+    // limit 바이트를 넘겨 읽으려 하면 SizeLimitExceededException (악의적/비정상적으로 큰 응답을 끝까지 읽지 않음)
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                checkLimit(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                checkLimit(n);
+            }
+            return n;
+        }
+
+        private void checkLimit(int n) throws SizeLimitExceededException {
+            count += n;
+            if (count > limit) {
+                throw new SizeLimitExceededException(limit);
+            }
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package com.example.back.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.back.DTO.BookDetailResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 상세 조회 결과(BookDetailResponse)를 bookId 기준으로 보관하는 인메모리 캐시
+ *  - 최대 건수(max-size)와 TTL(ttl-seconds)로 크기/신선도 제한
+ *  - hit/miss/eviction 지표는 /actuator/metrics 의 cache.* 항목으로 노출 (cache=bookDetail)
+ *  - 도서 수정/삭제 시 evict() 로 즉시 + 트랜잭션 커밋 직후 한 번 더 제거
+ */
+@Slf4j
+@Component
+public class BookDetailCache {
+
+    private static final String CACHE_NAME = "bookDetail";
+
+    private final Cache<Long, BookDetailResponse> cache;
+
+    public BookDetailCache(
+            @Value("${app.cache.book-detail.max-size:10000}") long maxSize,
+            @Value("${app.cache.book-detail.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("도서 상세 캐시 초기화: maxSize={}, ttlSeconds={}", maxSize, ttlSeconds);
+    }
+
+    // 캐시에 있으면 반환, 없으면 loader로 조회 후 저장 (loader 예외는 캐시하지 않고 그대로 전파)
+    public BookDetailResponse get(Long bookId, Function<Long, BookDetailResponse> loader) {
+        return cache.get(bookId, loader);
+    }
+
+    // 여러 건 조회: 캐시에 없는 id 만 모아 loader 한 번으로 조회 (loader 결과에 없는 id 는 반환 Map 에서 빠짐)
+    public Map<Long, BookDetailResponse> getAll(Collection<Long> bookIds,
+                                                Function<Set<? extends Long>, Map<Long, BookDetailResponse>> loader) {
+        return cache.getAll(bookIds, loader);
+    }
+
+    // 캐시에 있을 때만 반환 (없으면 null, DB 조회 없음)
+    public BookDetailResponse getIfPresent(Long bookId) {
+        return cache.getIfPresent(bookId);
+    }
+
+    public void evict(Long bookId) {
+        cache.invalidate(bookId);
+
+        // 커밋 전 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 직후에도 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(bookId);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
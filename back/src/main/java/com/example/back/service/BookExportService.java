@@ -0,0 +1,184 @@
+package com.example.back.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.back.DTO.BookExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 카탈로그 NDJSON 내보내기
+ *  - books 를 book_id 오름차순으로 한 번만 읽는 forward-only 조회 (OFFSET/COUNT 없음)
+ *  - 행을 읽는 즉시 한 줄씩 출력 스트림에 쓰므로 힙 사용량은 도서 수와 무관하다.
+ *  - 출력 스트림 쓰기는 소켓 버퍼가 차면 블로킹되고, 그동안 다음 행을 읽지 않는다. (클라이언트 속도에 맞춰 조회)
+ *  - MySQL(spring.datasource.url 이 jdbc:mysql:)은 fetchSize=Integer.MIN_VALUE 로 행 단위 스트리밍,
+ *    그 외 DB 는 app.books.export.fetch-size 사용 (기동 시 DB 에 접속해 확인하지 않음)
+ *  - 스트리밍 동안 DB 커넥션 하나를 계속 잡으므로 동시 내보내기는 max-concurrent 개로 제한 (초과 시 바로 503)
+ *  - 자리는 본문 기록이 끝나거나 비동기 요청이 끝날 때(timeout, 연결 끊김, 본문 미실행 포함) 한 번만 반납
+ */
+@Slf4j
+@Service
+public class BookExportService {
+
+    private static final String SELECT_BOOKS =
+            "SELECT book_id, title, description, content, category_id, image_url, user_id, created_at, updated_at "
+                    + "FROM books WHERE book_id > ? ORDER BY book_id ASC";
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final String SLOT_INTERCEPTOR_KEY = BookExportService.class.getName() + ".slot";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CategoryDictionary categoryDictionary;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final Semaphore slots;
+
+    public BookExportService(
+            DataSource dataSource,
+            CategoryDictionary categoryDictionary,
+            ObjectMapper objectMapper,
+            @Value("${spring.datasource.url:}") String datasourceUrl,
+            @Value("${app.books.export.fetch-size:1000}") int fetchSize,
+            @Value("${app.books.export.max-concurrent:2}") int maxConcurrent
+    ) {
+        this.categoryDictionary = categoryDictionary;
+        this.objectMapper = objectMapper;
+        this.slots = new Semaphore(maxConcurrent);
+
+        // 행마다 flush 하지 않고 FLUSH_EVERY_ROWS 단위로 모아서 내보냄
+        this.rowWriter = objectMapper.writerFor(BookExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        // 내보내기 전용 JdbcTemplate (공용 JdbcTemplate 의 fetchSize 는 건드리지 않음)
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(datasourceUrl.startsWith("jdbc:mysql:") ? Integer.MIN_VALUE : fetchSize);
+    }
+
+    // 내보내기 자리를 확보한 응답 본문 (자리가 없으면 503 + Retry-After)
+    //  - 본문이 끝나면 반납하고, 본문이 실행되지 않거나 중간에 끊긴 요청은 비동기 요청 종료 시 반납
+    public StreamingResponseBody stream(long afterBookId, WebRequest webRequest) {
+        if (!slots.tryAcquire()) {
+            log.warn("도서 내보내기 거절 - 동시 내보내기 수 초과");
+            throw busy();
+        }
+
+        AtomicBoolean released = new AtomicBoolean(false);
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        };
+
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(SLOT_INTERCEPTOR_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        release.run();
+                    }
+                });
+
+        return out -> {
+            try {
+                exportTo(out, afterBookId);
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    // afterBookId 이후 도서를 NDJSON 으로 out 에 기록하고 기록한 건수를 반환
+    public long exportTo(OutputStream out, long afterBookId) throws IOException {
+        long start = System.nanoTime();
+        long[] rows = {0L};
+
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 컨테이너가 닫으므로 여기서는 닫지 않음
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(null);
+
+            jdbcTemplate.query(SELECT_BOOKS, rs -> {
+                try {
+                    rowWriter.writeValue(gen, toRow(rs));
+                    gen.writeRaw('\n');
+
+                    if (++rows[0] % FLUSH_EVERY_ROWS == 0) {
+                        gen.flush();
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 → 조회 중단
+                    throw new UncheckedIOException(e);
+                }
+            }, afterBookId);
+
+            gen.flush();
+
+        } catch (UncheckedIOException e) {
+            log.warn("도서 내보내기 중단 - 출력 실패: 기록={}건, error={}", rows[0], e.getCause().toString());
+            throw e.getCause();
+        }
+
+        log.info("도서 내보내기 완료: afterBookId={}, 기록={}건, {}ms",
+                afterBookId, rows[0], (System.nanoTime() - start) / 1_000_000);
+        return rows[0];
+    }
+
+    private BookExportRow toRow(ResultSet rs) throws SQLException {
+        long categoryId = rs.getLong("category_id");
+        return new BookExportRow(
+                rs.getLong("book_id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getString("content"),
+                categoryId,
+                categoryDictionary.nameOf(categoryId),
+                rs.getString("image_url"),
+                rs.getString("user_id"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at"))
+        );
+    }
+
+    // 503 + Retry-After: 30
+    private static ResponseStatusException busy() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.") {
+            @Override
+            public HttpHeaders getHeaders() {
+                HttpHeaders headers = new HttpHeaders();
+                headers.set(HttpHeaders.RETRY_AFTER, "30");
+                return headers;
+            }
+        };
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
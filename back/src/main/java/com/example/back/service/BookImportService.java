@@ -0,0 +1,198 @@
+package com.example.back.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.back.DTO.BookImportRequest.BookImportItem;
+import com.example.back.DTO.BookImportResponse;
+import com.example.back.event.BooksImportedEvent;
+import com.example.back.repository.BookRepository;
+import com.example.back.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 일괄 등록
+ *  - Book 은 IDENTITY 전략이라 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JdbcTemplate.batchUpdate 로 직접 넣는다.
+ *  - MySQL 접속 URL 의 rewriteBatchedStatements=true 로 배치가 다중 행 INSERT 한 문장으로 전송된다.
+ *  - chunk-size 행마다 별도 트랜잭션으로 커밋 (트랜잭션/undo 로그가 한없이 커지지 않도록)
+ *  - 검증 실패 행은 건너뛰고 사유를 응답에 담는다.
+ *  - 끝나면 BooksImportedEvent 한 번 발행 (건수 캐시, 목록 ETag, 자동완성 색인 갱신)
+ */
+@Slf4j
+@Service
+public class BookImportService {
+
+    private static final String INSERT_BOOK =
+            "INSERT INTO books (user_id, category_id, title, description, content, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookRepository bookRepository;
+    private final UserRepository userRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int batchSize;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public BookImportService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            BookRepository bookRepository,
+            UserRepository userRepository,
+            CategoryDictionary categoryDictionary,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.books.import.batch-size:1000}") int batchSize,
+            @Value("${app.books.import.chunk-size:5000}") int chunkSize,
+            @Value("${app.books.import.max-rows:10000}") int maxRows
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.bookRepository = bookRepository;
+        this.userRepository = userRepository;
+        this.categoryDictionary = categoryDictionary;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    // API 용: 요청 한 건의 행 수를 max-rows 로 제한
+    public BookImportResponse importBooks(String userId, List<BookImportItem> books) {
+        if (books == null || books.isEmpty()) {
+            throw new IllegalArgumentException("등록할 도서(books)가 없습니다.");
+        }
+
+        if (books.size() > maxRows) {
+            log.warn("도서 일괄 등록 실패 - 요청 건수 초과: size={}, max={}", books.size(), maxRows);
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 도서는 최대 " + maxRows + "건입니다.");
+        }
+
+        return importBooks(userId, books.iterator());
+    }
+
+    // CLI 용: 건수 제한 없이 순차적으로 읽으며 chunk 단위로 등록 (메모리에는 chunk 하나만 유지)
+    public BookImportResponse importBooks(String userId, Iterator<BookImportItem> books) {
+        if (userId == null || !userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자 정보를 찾을 수 없습니다.");
+        }
+
+        log.info("도서 일괄 등록 시작: userId={}, batchSize={}, chunkSize={}", userId, batchSize, chunkSize);
+
+        long start = System.nanoTime();
+        long afterBookId = bookRepository.findMaxId();
+
+        long requested = 0;
+        long imported = 0;
+        long rejected = 0;
+        List<BookImportResponse.RejectedRow> errors = new ArrayList<>();
+        List<Object[]> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            while (books.hasNext()) {
+                BookImportItem item = books.next();
+                long index = requested++;
+
+                String reason = validate(item);
+                if (reason != null) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new BookImportResponse.RejectedRow(index, reason));
+                    }
+                    continue;
+                }
+
+                chunk.add(toParams(userId, item));
+
+                if (chunk.size() >= chunkSize) {
+                    imported += insertChunk(chunk);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                imported += insertChunk(chunk);
+            }
+
+        } finally {
+            // 중간에 실패해도 이미 커밋된 chunk 는 캐시/색인에 반영
+            if (imported > 0) {
+                eventPublisher.publishEvent(new BooksImportedEvent(afterBookId, imported));
+            }
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long rowsPerSecond = imported * 1000 / elapsedMs;
+
+        log.info("도서 일괄 등록 완료: 요청={}, 등록={}, 건너뜀={}, {}ms, {} rows/s",
+                requested, imported, rejected, elapsedMs, rowsPerSecond);
+
+        return new BookImportResponse(requested, imported, rejected, errors, elapsedMs, rowsPerSecond);
+    }
+
+    // chunk 한 개 = 트랜잭션 한 개, 그 안에서 batchSize 단위 JDBC 배치
+    private int insertChunk(List<Object[]> chunk) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_BOOK, chunk, batchSize, (ps, row) -> {
+                    for (int i = 0; i < row.length; i++) {
+                        ps.setObject(i + 1, row[i]);
+                    }
+                }));
+
+        // rewriteBatchedStatements 사용 시 드라이버가 행별 결과 대신 SUCCESS_NO_INFO 를 돌려주므로 chunk 크기로 계산
+        // (실패하면 예외로 chunk 전체가 롤백됨)
+        return chunk.size();
+    }
+
+    private Object[] toParams(String userId, BookImportItem item) {
+        return new Object[]{
+                userId,
+                item.getCategoryId(),
+                item.getTitle().trim(),
+                item.getDescription().trim(),
+                item.getContent().trim(),
+                Timestamp.valueOf(LocalDateTime.now())
+        };
+    }
+
+    // 도서 등록(createBook)과 같은 검증 + 컬럼 길이 검증, 문제가 없으면 null
+    private String validate(BookImportItem item) {
+        if (item == null) {
+            return "빈 행입니다.";
+        }
+        if (isBlank(item.getTitle()) || isBlank(item.getDescription()) || isBlank(item.getContent())) {
+            return "title/description/content 가 비어 있습니다.";
+        }
+        if (item.getTitle().trim().length() > 100) {
+            return "title 은 100자 이하여야 합니다.";
+        }
+        if (item.getDescription().trim().length() > 100) {
+            return "description 은 100자 이하여야 합니다.";
+        }
+        if (item.getContent().trim().length() > 1000) {
+            return "content 는 1000자 이하여야 합니다.";
+        }
+        if (item.getCategoryId() == null || categoryDictionary.nameOf(item.getCategoryId()) == null) {
+            return "카테고리 정보가 올바르지 않습니다.";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.back.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.back.config.SeedProfile;
+import com.example.back.entity.Category;
+import com.example.back.event.BooksImportedEvent;
+import com.example.back.repository.BookRepository;
+import com.example.back.repository.CategoryRepository;
+import com.example.back.repository.SeedChunkProgressView;
+import com.example.back.repository.SeedChunkRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 성능 테스트용 더미 데이터 시딩
+ *  - SeedProfile 규모만큼 도서를 chunk-size 단위로 나눠 threads 개 스레드에서 병렬로 넣는다.
+ *  - chunk 마다 JDBC 배치 INSERT + seed_chunks 기록을 한 트랜잭션으로 커밋하므로, 중단 후 다시 기동하면 남은 chunk 만 진행한다.
+ *  - chunk 번호로 Random 시드를 정하므로 어느 chunk 를 다시 만들어도 같은 데이터가 나온다.
+ *  - chunk N 은 프로필과 무관하게 N 번째 chunk-size 구간이다. 더 큰 프로필로 바꾸면 이전 프로필이 넣은 행은 두고
+ *    나머지만 이어서 넣는다. (덜 찬 마지막 chunk 는 남은 행만 추가, 더 작은 프로필로 바꾸면 이미 완료로 봄)
+ *  - 기록된 chunk 크기가 현재 chunk-size 로 나올 수 없는 값이면 chunk-size 가 바뀐 것이므로 구간이 맞지 않아 시딩을 중단한다.
+ *  - 작성자는 seed_user_NNNNN 사용자들(로그인 불가: 매번 새로 만든 임의 비밀번호의 해시, 한 번만 계산해 공유),
+ *    카테고리/작성자는 Zipf 분포로 선택
+ *  - 시딩 기록(seed_chunks, 모든 프로필)이 없는데 도서가 한 건이라도 있으면 실제 데이터로 보고 시딩하지 않는다.
+ *  - 끝나면 BooksImportedEvent 발행 (건수 캐시, 카탈로그 버전, 자동완성 색인 갱신)
+ */
+@Slf4j
+@Service
+public class BookSeedService {
+
+    private static final String INSERT_BOOK =
+            "INSERT INTO books (user_id, category_id, title, description, content, image_url, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CHUNK =
+            "INSERT INTO seed_chunks (profile, chunk_no, book_count, completed_at) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_USER = "INSERT INTO users (id, pw, name) VALUES (?, ?, ?)";
+
+    private static final String SEED_USER_PREFIX = "seed_user_";
+
+    // created_at 을 최근 2년에 고르게 분포 (book_id 순서와 같은 방향)
+    private static final Duration CREATED_SPAN = Duration.ofDays(730);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final SeedChunkRepository seedChunkRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int threads;
+    private final int chunkSize;
+    private final int batchSize;
+    private final long randomSeed;
+
+    public BookSeedService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            BookRepository bookRepository,
+            CategoryRepository categoryRepository,
+            SeedChunkRepository seedChunkRepository,
+            PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.seed.threads:4}") int threads,
+            @Value("${app.seed.chunk-size:5000}") int chunkSize,
+            @Value("${app.books.import.batch-size:1000}") int batchSize,
+            @Value("${app.seed.random-seed:42}") long randomSeed
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.bookRepository = bookRepository;
+        this.categoryRepository = categoryRepository;
+        this.seedChunkRepository = seedChunkRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.randomSeed = randomSeed;
+    }
+
+    public void seed(SeedProfile profile) {
+        if (profile == SeedProfile.NONE) {
+            log.info("더미 데이터 시딩 생략 — profile=NONE");
+            return;
+        }
+
+        List<Long> categoryIds = categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "id")).stream()
+                .map(Category::getId)
+                .toList();
+
+        if (categoryIds.isEmpty()) {
+            log.error("카테고리 데이터가 0건입니다. 더미 데이터 시딩 중단.");
+            return;
+        }
+
+        int totalChunks = (int) ((profile.getBooks() + chunkSize - 1) / chunkSize);
+
+        // chunk 번호 → 이미 들어간 도서 수 (모든 프로필 합계)
+        Map<Integer, Long> seeded = new HashMap<>();
+        for (SeedChunkProgressView progress : seedChunkRepository.findProgressByChunkNo()) {
+            seeded.put(progress.getChunkNo(), progress.getBookCount());
+        }
+
+        // 시딩 기록이 없는데 도서가 있으면 실제 데이터 → 그 위에 더미 데이터를 넣지 않음
+        if (seeded.isEmpty()) {
+            long existing = bookRepository.count();
+            if (existing > 0) {
+                log.info("도서 {}건 존재 (시딩 기록 없음) — 더미 데이터 시딩 생략", existing);
+                return;
+            }
+        }
+
+        long mismatched = seeded.entrySet().stream()
+                .filter(chunk -> !matchesChunkSize(chunk.getKey(), chunk.getValue()))
+                .count();
+        if (mismatched > 0) {
+            log.error("기존 시딩 기록과 chunk-size({})가 맞지 않습니다 (chunk {}개). 이전 chunk-size 로 다시 기동하세요. 더미 데이터 시딩 중단.",
+                    chunkSize, mismatched);
+            return;
+        }
+
+        // 남은 chunk 번호 → 이미 들어간 도서 수 (0 이면 새 chunk, 0 보다 크면 작은 프로필이 넣은 덜 찬 chunk)
+        Map<Integer, Long> pending = new TreeMap<>();
+        for (int chunkNo = 0; chunkNo < totalChunks; chunkNo++) {
+            long done = seeded.getOrDefault(chunkNo, 0L);
+            if (done < chunkRows(profile, chunkNo)) {
+                pending.put(chunkNo, done);
+            }
+        }
+
+        if (pending.isEmpty()) {
+            log.info("더미 데이터 시딩 완료 상태 — profile={}, chunk {}개", profile, totalChunks);
+            return;
+        }
+
+        List<String> userIds = ensureUsers(profile.getUsers());
+        SeedBookGenerator generator = new SeedBookGenerator(categoryIds, userIds, randomSeed);
+
+        log.info("더미 데이터 시딩 시작: profile={}, 도서 {}건, chunk {}/{}개 남음, threads={}",
+                profile, profile.getBooks(), pending.size(), totalChunks, threads);
+
+        long start = System.nanoTime();
+        long afterBookId = bookRepository.findMaxId();
+        AtomicLong inserted = new AtomicLong();
+        LocalDateTime baseTime = LocalDateTime.now().minus(CREATED_SPAN);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Map.Entry<Integer, Long> chunk : pending.entrySet()) {
+                int no = chunk.getKey();
+                long skip = chunk.getValue();
+                futures.add(executor.submit(() -> {
+                    int rows = insertChunk(profile, no, skip, generator, baseTime);
+                    long done = inserted.addAndGet(rows);
+                    if (no % 20 == 0) {
+                        log.info("더미 데이터 시딩 진행: {}건 ({} rows/s)", done, rowsPerSecond(done, start));
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            log.info("더미 데이터 시딩 완료: profile={}, {}건, {}ms, {} rows/s",
+                    profile, inserted.get(), (System.nanoTime() - start) / 1_000_000, rowsPerSecond(inserted.get(), start));
+
+        } catch (ExecutionException e) {
+            // 커밋된 chunk 는 seed_chunks 에 남아 있으므로 다시 기동하면 이어서 진행
+            log.error("더미 데이터 시딩 실패 — 재기동 시 이어서 진행: 완료 {}건, error={}", inserted.get(), e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("더미 데이터 시딩 중단: 완료 {}건", inserted.get());
+        } finally {
+            executor.shutdownNow();
+
+            // 중간에 실패해도 이미 커밋된 chunk 는 캐시/색인에 반영
+            if (inserted.get() > 0) {
+                eventPublisher.publishEvent(new BooksImportedEvent(afterBookId, inserted.get()));
+            }
+        }
+    }
+
+    // profile 에서 chunkNo 에 들어가야 하는 도서 수
+    private long chunkRows(SeedProfile profile, int chunkNo) {
+        long from = (long) chunkNo * chunkSize;
+        return Math.min(from + chunkSize, profile.getBooks()) - from;
+    }
+
+    // 기록된 도서 수가 현재 chunk-size 의 꽉 찬 chunk 이거나, 어느 프로필의 마지막 chunk 크기와 같은지
+    private boolean matchesChunkSize(int chunkNo, long bookCount) {
+        if (bookCount == chunkSize) {
+            return true;
+        }
+        for (SeedProfile profile : SeedProfile.values()) {
+            if (profile.getBooks() > (long) chunkNo * chunkSize && chunkRows(profile, chunkNo) == bookCount) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // chunk 한 개 생성 + 배치 INSERT + 진행 기록 (한 트랜잭션)
+    //  - 앞의 skip 건은 이전 프로필이 이미 넣은 행 → 같은 난수 흐름을 유지하도록 생성만 하고 버림
+    private int insertChunk(SeedProfile profile, int chunkNo, long skip, SeedBookGenerator generator, LocalDateTime baseTime) {
+        long from = (long) chunkNo * chunkSize;
+        long to = from + chunkRows(profile, chunkNo);
+        long spanSeconds = CREATED_SPAN.toSeconds();
+
+        Random random = new Random(randomSeed * 31 + chunkNo);
+        List<Object[]> rows = new ArrayList<>((int) (to - from - skip));
+
+        for (long i = from; i < to; i++) {
+            LocalDateTime createdAt = baseTime.plusSeconds(spanSeconds * i / profile.getBooks());
+            Object[] row = new Object[]{
+                    generator.pickUser(random),
+                    generator.pickCategory(random),
+                    generator.title(random),
+                    generator.description(random),
+                    generator.content(random),
+                    "https://picsum.photos/200/320?random=" + (i + 1),
+                    Timestamp.valueOf(createdAt)
+            };
+            if (i - from >= skip) {
+                rows.add(row);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_BOOK, rows, batchSize, (ps, row) -> {
+                for (int c = 0; c < row.length; c++) {
+                    ps.setObject(c + 1, row[c]);
+                }
+            });
+            jdbcTemplate.update(INSERT_CHUNK, profile.name(), chunkNo, rows.size(), Timestamp.valueOf(LocalDateTime.now()));
+        });
+
+        return rows.size();
+    }
+
+    // seed_user_00000 ~ seed_user_{count-1} 중 없는 사용자만 생성 (BCrypt 해시는 한 번만 계산, 비밀번호는 어디에도 남기지 않음)
+    private List<String> ensureUsers(int count) {
+        List<String> userIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            userIds.add(String.format("%s%05d", SEED_USER_PREFIX, i));
+        }
+
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id LIKE ?", String.class, SEED_USER_PREFIX + "%"));
+
+        String encodedPassword = passwordEncoder.encode(UUID.randomUUID().toString());
+        Random random = new Random(randomSeed);
+
+        List<Object[]> missing = new ArrayList<>();
+        for (String userId : userIds) {
+            String name = SeedBookGenerator.koreanName(random);
+            if (!existing.contains(userId)) {
+                missing.add(new Object[]{userId, encodedPassword, name});
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_USER, missing, batchSize, (ps, row) -> {
+                        ps.setString(1, (String) row[0]);
+                        ps.setString(2, (String) row[1]);
+                        ps.setString(3, (String) row[2]);
+                    }));
+            log.info("시딩 사용자 {}명 생성 (전체 {}명)", missing.size(), count);
+        }
+
+        return userIds;
+    }
+
+    private static long rowsPerSecond(long rows, long startNanos) {
+        long elapsedMs = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        return rows * 1000 / elapsedMs;
+    }
+}
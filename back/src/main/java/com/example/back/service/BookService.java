@@ -1,23 +1,38 @@
 package com.example.back.service;
 
 import com.example.back.DTO.*;
+import com.example.back.config.BookFullTextIndexInitializer;
 import com.example.back.entity.Book;
 import com.example.back.entity.Category;
 import com.example.back.entity.User;
+import com.example.back.event.BookChangedEvent;
+import com.example.back.repository.BookListItemView;
 import com.example.back.repository.BookRepository;
 import com.example.back.repository.CategoryRepository;
 import com.example.back.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -26,36 +41,192 @@ public class BookService {
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final BookCoverStorageService bookCoverStorageService;
+    private final CoverIngestionService coverIngestionService;
+    private final BookDetailCache bookDetailCache;
+    private final BookFullTextIndexInitializer fullTextIndex;
+    private final BookCountCache bookCountCache;
+    private final CatalogVersion catalogVersion;
+    private final CategoryDictionary categoryDictionary;
+    private final BookTitleSuggestIndex titleSuggestIndex;
+    private final ApplicationEventPublisher eventPublisher;
     private final S3Client s3Client;
 
-    public BookListResponse getBooks(int page, int size) {
+    @Value("${app.books.batch-max-size:50}")
+    private int batchMaxSize;
+
+    @Value("${app.books.suggest-max-size:20}")
+    private int suggestMaxSize;
+
+    public BookListResponse getBooks(int page, int size, Long categoryId) {
+        /**
+         * 도서 목록 조회 (페이지 번호 방식)
+         * - 목록은 Slice(size+1 조회)로 가져오고, 건수는 BookCountCache 값 사용 (COUNT 쿼리 없음)
+         * - categoryId 가 있으면 해당 카테고리 도서만 조회
+         */
         Sort sort = Sort.by(Sort.Direction.DESC, "id");
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Book> result = bookRepository.findAll(pageable);
-        return BookListResponse.from(result);
+
+        if (categoryId != null) {
+            validateCategory(categoryId);
+            Slice<BookListItemView> result = bookRepository.findListItemSliceByCategory(categoryId, pageable);
+            return BookListResponse.fromSlice(result, bookCountCache.getCategoryCount(categoryId), categoryDictionary::nameOf);
+        }
+
+        Slice<BookListItemView> result = bookRepository.findListItemSlice(pageable);
+        return BookListResponse.fromSlice(result, bookCountCache.getTotal(), categoryDictionary::nameOf);
     }
 
-    public BookListResponse searchBooksByTitle(String title, int page, int size) {
-        log.info("도서 제목 검색 서비스 시작: title={}, page={}, size={}", title, page, size);
+    public BookCursorResponse getBooksAfter(String after, int size, Long categoryId) {
+        /**
+         * 커서(keyset) 방식 도서 목록 조회
+         * - after 가 비어 있으면 첫 페이지, 아니면 커서에 담긴 bookId 보다 작은 도서부터 조회
+         * - WHERE [category_id = ? AND] book_id < ? ORDER BY book_id DESC LIMIT size+1 (COUNT 쿼리 없음)
+         */
+        Long lastBookId = decodeCursor(after);
+
+        Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id"));
+        Slice<BookListItemView> result;
+
+        if (categoryId != null) {
+            validateCategory(categoryId);
+            result = bookRepository.findListItemsByCategoryBefore(categoryId, lastBookId, pageable);
+        } else {
+            result = bookRepository.findListItemsBefore(lastBookId, pageable);
+        }
+
+        List<BookListResponse.BookItem> items =
+                BookListResponse.toItems(result.getContent(), categoryDictionary::nameOf);
+
+        String nextCursor = result.hasNext() && !items.isEmpty()
+                ? encodeCursor(items.get(items.size() - 1).getBookId())
+                : null;
+
+        return new BookCursorResponse(items, nextCursor, result.hasNext());
+    }
+
+    public BookListResponse searchBooksByTitle(String title, int page, int size, boolean withCount) {
+        /**
+         * 도서 제목 검색
+         * - withCount=true  : Page 조회 (목록 + COUNT), totalPages/totalItems 제공
+         * - withCount=false : Slice 조회 (목록 size+1 건만), hasNext 만 제공
+         */
+        log.info("도서 제목 검색 서비스 시작: title={}, page={}, size={}, withCount={}", title, page, size, withCount);
 
         if (title == null || title.isBlank()) {
             log.warn("도서 제목 검색 실패 - 잘못된 검색어: title 비어 있음");
             throw new IllegalArgumentException("검색어(title)가 올바르지 않습니다.");
         }
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "id");
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Book> result = bookRepository.findByTitleContainingIgnoreCase(title.trim(), pageable);
+        String keyword = title.trim();
+
+        // ngram 토큰(2글자)보다 짧은 검색어는 FULLTEXT 로 찾을 수 없으므로 LIKE 로 처리
+        boolean useFullText = fullTextIndex.isAvailable() && keyword.length() >= 2;
+
+        // FULLTEXT 는 네이티브 쿼리의 ORDER BY book_id DESC 사용
+        Pageable pageable = useFullText
+                ? PageRequest.of(page, size)
+                : PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+
+        if (!withCount) {
+            Slice<BookListItemView> result = useFullText
+                    ? bookRepository.searchListItemSliceByTitleFullText(toPhraseQuery(keyword), pageable)
+                    : bookRepository.searchListItemSliceByTitleLike(keyword, pageable);
+
+            log.info("도서 제목 검색 서비스 완료(COUNT 생략): title={}, hasNext={}", title, result.hasNext());
+            return BookListResponse.fromSlice(result, null, categoryDictionary::nameOf);
+        }
+
+        Page<BookListItemView> result = useFullText
+                ? bookRepository.searchListItemsByTitleFullText(toPhraseQuery(keyword), pageable)
+                : bookRepository.searchListItemsByTitleLike(keyword, pageable);
 
         log.info("도서 제목 검색 서비스 완료: title={}, totalElements={}", title, result.getTotalElements());
-        return BookListResponse.from(result);
+        return BookListResponse.fromItems(result, categoryDictionary::nameOf);
+    }
+
+    public BookSuggestResponse suggestTitles(String q, int size) {
+        /**
+         * 도서 제목 자동완성
+         * - 인메모리 접두어 색인(BookTitleSuggestIndex)에서만 조회 (DB 접근 없음)
+         * - 한글 입력 중인 글자("인공ㅈ")와 초성("ㅇㄱㅈㄴ")도 일치
+         * - 검색어가 비어 있으면 빈 목록
+         */
+        if (size < 1 || size > suggestMaxSize) {
+            throw new IllegalArgumentException("자동완성 개수(size)는 1~" + suggestMaxSize + " 사이여야 합니다.");
+        }
+
+        String query = q == null ? "" : q;
+        return new BookSuggestResponse(query, titleSuggestIndex.suggest(query, size));
     }
 
     public BookDetailResponse getBookDetail(Long bookId) {
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new IllegalArgumentException("도서를 찾을 수 없습니다."));
-        return BookDetailResponse.from(book);
+        // 캐시 미스일 때만 DB 조회 (없는 도서는 예외가 그대로 전파되어 캐시되지 않음)
+        return bookDetailCache.get(bookId, id -> {
+            Book book = bookRepository.findWithUserAndCategoryById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("도서를 찾을 수 없습니다."));
+            return BookDetailResponse.from(book);
+        });
+    }
+
+    public BookBatchResponse getBookDetails(List<Long> bookIds) {
+        /**
+         * 도서 일괄 상세 조회
+         * - 상세 캐시에 있는 도서는 캐시에서, 나머지는 WHERE book_id IN (...) 한 번으로 조회
+         * - 조회된 도서는 상세 캐시에 저장되어 이후 상세/일괄 조회에서 재사용
+         * - 결과는 요청 순서대로, 없는 도서는 found=false 로 표시
+         */
+        if (bookIds == null || bookIds.isEmpty()) {
+            throw new IllegalArgumentException("조회할 도서 ID(ids)가 없습니다.");
+        }
+
+        List<Long> ids = bookIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (ids.size() > batchMaxSize) {
+            log.warn("도서 일괄 조회 실패 - 요청 건수 초과: size={}, max={}", ids.size(), batchMaxSize);
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 도서는 최대 " + batchMaxSize + "건입니다.");
+        }
+
+        Map<Long, BookDetailResponse> details = bookDetailCache.getAll(ids, missing ->
+                bookRepository.findAllWithUserAndCategoryByIdIn(List.copyOf(missing)).stream()
+                        .collect(Collectors.toMap(Book::getId, BookDetailResponse::from)));
+
+        List<BookBatchResponse.BookBatchItem> items = ids.stream()
+                .map(id -> new BookBatchResponse.BookBatchItem(id, details.containsKey(id), details.get(id)))
+                .toList();
+
+        int found = details.size();
+        log.info("도서 일괄 조회 완료: 요청={}, 조회={}, 없음={}", ids.size(), found, ids.size() - found);
+        return new BookBatchResponse(items, found, ids.size() - found);
+    }
+
+    public String getBookDetailETag(Long bookId) {
+        /**
+         * 도서 상세 ETag 조회 (조건부 GET 용)
+         * - 상세 캐시에 있으면 DB 접근 없이 계산
+         * - 없으면 마지막 변경 시각만 조회 (엔티티 로딩/JSON 직렬화 없음)
+         * - 도서가 없으면 null
+         */
+        BookDetailResponse cached = bookDetailCache.getIfPresent(bookId);
+        if (cached != null) {
+            return toDetailETag(cached);
+        }
+
+        return bookRepository.findLastModifiedById(bookId)
+                .map(lastModified -> toDetailETag(bookId, lastModified))
+                .orElse(null);
+    }
+
+    public String toDetailETag(BookDetailResponse detail) {
+        LocalDateTime lastModified = detail.getUpdatedAt() != null ? detail.getUpdatedAt() : detail.getCreatedAt();
+        return toDetailETag(detail.getBookId(), lastModified);
+    }
+
+    // 목록/검색 ETag: 카탈로그 버전 (DB 공유 값, 도서 변경 트랜잭션마다 증가)
+    public String getCatalogETag() {
+        return "\"c" + Long.toHexString(catalogVersion.current()) + "\"";
     }
 
     @Transactional
@@ -101,27 +272,18 @@ public class BookService {
         Book saved = bookRepository.save(book);
         log.info("도서 등록 서비스 - Book 저장 완료: bookId={}", saved.getId());
 
-        // 5) 이미지 URL 들어온 경우 → S3 업로드 → DB에 최종 URL 저장
+        // 5) 이미지 URL 들어온 경우 → 표지 작업 등록 (다운로드/S3 업로드는 커밋 후 백그라운드에서 처리)
         if (req.getImageUrl() != null && !req.getImageUrl().isBlank()) {
-
-            String publicUrl = bookCoverStorageService.saveCoverFromUrl(
-                    req.getImageUrl(),
-                    saved.getId()
-            );
-
-            if (publicUrl == null) {
-                //  테스트용: 업로드 실패해도 도서 생성은 진행
-                log.warn("이미지 업로드 실패(테스트 진행): imageUrl={}", req.getImageUrl());
+            if (coverIngestionService.isAcceptableSourceUrl(req.getImageUrl())) {
+                coverIngestionService.enqueue(saved, req.getImageUrl());
             } else {
-                saved.setImageUrl(publicUrl);
-
-                //  중요: imageUrl 반영을 확실히 DB에 저장
-                bookRepository.save(saved);
-
-                log.info("도서 등록 서비스 - imageUrl 저장 완료: bookId={}, imageUrl={}", saved.getId(), publicUrl);
+                //  업로드 불가 URL 이어도 도서 생성은 진행
+                log.warn("유효하지 않은 이미지 URL - 표지 없이 등록: imageUrl={}", req.getImageUrl());
             }
         }
 
+        eventPublisher.publishEvent(BookChangedEvent.created(saved.getId(), category.getId(), saved.getTitle()));
+
         log.info("도서 등록 서비스 완료: bookId={}", saved.getId());
         return new BookCreateResponse(saved.getId());
     }
@@ -152,7 +314,7 @@ public class BookService {
                 });
 
         // 3) 도서 조회
-        Book book = bookRepository.findById(bookId)
+        Book book = bookRepository.findWithUserAndCategoryById(bookId)
                 .orElseThrow(() -> {
                     log.warn("도서 수정 실패 - 도서 조회 실패: bookId={}", bookId);
                     return new RuntimeException("도서 정보를 찾을 수 없습니다.");
@@ -172,6 +334,7 @@ public class BookService {
                 });
 
         // 6) 기본 필드 수정
+        Long previousCategoryId = book.getCategoryId().getId();
         book.setCategoryId(category);
         book.setTitle(req.getTitle());
         book.setDescription(req.getDescription());
@@ -179,52 +342,87 @@ public class BookService {
         book.setUpdated_at(java.time.LocalDateTime.now());
 
         Book saved = bookRepository.save(book);
+        bookDetailCache.evict(saved.getId());
         log.info("도서 수정 기본 정보 저장 완료: bookId={}, imageUrl(초기)={}", saved.getId(), saved.getImageUrl());
 
-        // 7) imageUrl 들어온 경우 → S3 업로드 → DB에 최종 URL 저장
+        // 7) imageUrl 들어온 경우 → 표지 작업 등록 (기존 표지는 새 표지가 준비될 때까지 유지)
         if (req.getImageUrl() != null && !req.getImageUrl().isBlank()) {
 
-            String publicUrl = bookCoverStorageService.saveCoverFromUrl(
-                    req.getImageUrl(),
-                    saved.getId()
-            );
-
-            if (publicUrl == null) {
+            if (!coverIngestionService.isAcceptableSourceUrl(req.getImageUrl())) {
                 log.warn("도서 수정 실패 - 유효하지 않은 이미지 URL: {}", req.getImageUrl());
                 throw new IllegalArgumentException("유효하지 않은 이미지 URL입니다.");
             }
 
-            saved.setImageUrl(publicUrl);
-
-            //  중요: imageUrl 반영을 확실히 DB에 저장
-            bookRepository.save(saved);
-
-            log.info("도서 수정 서비스 - imageUrl 저장 완료: bookId={}, imageUrl={}", saved.getId(), publicUrl);
+            coverIngestionService.enqueue(saved, req.getImageUrl());
         }
 
+        eventPublisher.publishEvent(BookChangedEvent.updated(saved.getId(), category.getId(), previousCategoryId, saved.getTitle()));
+
         log.info("도서 수정 서비스 완료: bookId={}, 최종 imageUrl={}", saved.getId(), saved.getImageUrl());
         return new BookUpdateResponse(saved.getId());
     }
 
     @Transactional
     public DeleteBookResponse deleteBook(String userId, Long bookId) {
-        Book book = bookRepository.findById(bookId)
+        Book book = bookRepository.findWithUserAndCategoryById(bookId)
                 .orElseThrow(() -> new IllegalArgumentException("도서를 찾을 수 없습니다."));
 
         if (!book.getUser().getId().equals(userId)) {
             throw new RuntimeException("본인이 등록한 도서만 삭제할 수 있습니다.");
         }
 
-        String imageUrl = book.getImageUrl();
-        if (imageUrl != null && !imageUrl.isBlank()) {
-            String key = imageUrl.substring(imageUrl.indexOf(".amazonaws.com/") + ".amazonaws.com/".length());
-            s3Client.deleteObject(DeleteObjectRequest.builder()
-                    .bucket("user045-book")
-                    .key(key)
-                    .build());
+        // 원본 + 썸네일 표지 삭제
+        for (String imageUrl : new String[]{book.getImageUrl(), book.getThumbnailUrl(), book.getPreviewUrl()}) {
+            if (imageUrl != null && !imageUrl.isBlank()) {
+                String key = imageUrl.substring(imageUrl.indexOf(".amazonaws.com/") + ".amazonaws.com/".length());
+                s3Client.deleteObject(DeleteObjectRequest.builder()
+                        .bucket("user045-book")
+                        .key(key)
+                        .build());
+            }
         }
 
         bookRepository.delete(book);
+        bookDetailCache.evict(bookId);
+        eventPublisher.publishEvent(BookChangedEvent.deleted(bookId, book.getCategoryId().getId()));
         return new DeleteBookResponse(bookId, 1);
     }
+
+    private void validateCategory(Long categoryId) {
+        if (categoryDictionary.nameOf(categoryId) == null) {
+            log.warn("도서 목록 조회 실패 - 존재하지 않는 카테고리: categoryId={}", categoryId);
+            throw new IllegalArgumentException("카테고리 정보가 올바르지 않습니다.");
+        }
+    }
+
+    // 강한 ETag: bookId + 마지막 변경 시각(updated_at, 없으면 created_at)
+    private String toDetailETag(Long bookId, LocalDateTime lastModified) {
+        long millis = lastModified == null ? 0L : lastModified.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "\"b" + bookId + "-" + Long.toHexString(millis) + "\"";
+    }
+
+    // BOOLEAN MODE 연산자(+ - * " 등)를 무력화하고 구문 검색으로 감싼다 (ngram 에서는 부분 일치와 동일)
+    private String toPhraseQuery(String keyword) {
+        return "\"" + keyword.replace("\"", " ") + "\"";
+    }
+
+    // 커서는 bookId를 감싼 불투명 문자열(Base64 URL-safe)로 주고받는다
+    private String encodeCursor(Long bookId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(bookId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(decoded);
+        } catch (IllegalArgumentException e) {
+            log.warn("도서 목록 조회 실패 - 잘못된 커서: after={}", cursor);
+            throw new IllegalArgumentException("커서(after) 값이 올바르지 않습니다.");
+        }
+    }
 }
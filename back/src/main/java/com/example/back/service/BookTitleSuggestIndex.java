@@ -0,0 +1,383 @@
+package com.example.back.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.back.DTO.BookSuggestResponse;
+import com.example.back.event.BookChangedEvent;
+import com.example.back.event.BooksImportedEvent;
+import com.example.back.repository.BookRepository;
+import com.example.back.repository.BookTitleView;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 제목 자동완성용 인메모리 접두어 색인
+ *  - 제목의 각 단어 시작 위치부터의 문자열을 정렬된 맵(ConcurrentSkipListMap)에 넣고, 접두어 범위 조회로 찾는다.
+ *  - 키는 공백 제거 + 소문자 + 한글 자모 분해 형태라 "인공ㅈ", "인공진" 처럼 입력 중인 글자도 "인공지능" 에 일치한다.
+ *  - 초성 키를 따로 두어 "ㅇㄱㅈㄴ" 같은 초성 검색도 지원한다.
+ *  - 최신 도서 max-books 건만 색인한다 (도서 1건당 키 최대 16개 → 전체 카탈로그를 힙에 올리지 않음).
+ *    범위 밖의 오래된 도서는 자동완성 후보에서 빠지고, 제목 검색(/search)으로는 찾을 수 있다.
+ *  - 기동 시 최신 도서부터 keyset 단위로 적재하고, 이후 BookChangedEvent 로 생성/수정/삭제를 반영한다.
+ *    (일괄 등록은 BooksImportedEvent 를 받아 새로 들어온 ID 범위만 적재, max-books 이상이면 다시 적재)
+ *  - reconcile-ms 마다 DB 와 다시 맞춘다 (다른 인스턴스의 수정/삭제, 이벤트 없이 들어온 행 반영)
+ *  - 조회 시 DB 접근 없음, 변경(put/remove)은 드물어서 synchronized 로 직렬화
+ */
+@Slf4j
+@Component
+public class BookTitleSuggestIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 5_000;
+    private static final int MAX_WORDS = 8;          // 제목당 색인하는 단어 시작 위치 수
+    private static final int MAX_KEY_LENGTH = 32;    // 키 최대 길이 (자동완성은 앞부분만 필요)
+
+    // 키 공간 (제목 시작 일치를 단어 중간 일치보다 먼저 보여주기 위해 분리)
+    private static final char TITLE_JAMO = 'a';
+    private static final char WORD_JAMO = 'b';
+    private static final char TITLE_CHOSEONG = 'c';
+    private static final char WORD_CHOSEONG = 'd';
+
+    private static final char SEPARATOR = '\u0000';
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 → 분해형 (ㄳ → ㄱㅅ, ㅘ → ㅗㅏ)
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+            Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private final BookRepository bookRepository;
+    private final int maxBooks;
+
+    // 색인 키 → bookId
+    private final ConcurrentSkipListMap<String, Long> entries = new ConcurrentSkipListMap<>();
+
+    // bookId → 제목 (응답용 + 수정/삭제 시 이전 키 제거용, ID 순 정렬 → 가장 오래된 도서부터 제거)
+    private final ConcurrentSkipListMap<Long, String> titles = new ConcurrentSkipListMap<>();
+
+    // titles 건수 (ConcurrentSkipListMap.size() 는 전체 순회)
+    private volatile int size = 0;
+
+    // 진행 중인 재동기화 수, 그동안 이벤트로 바뀐 bookId (this 로 보호)
+    //  - 재동기화는 조회 시점의 스냅샷을 반영하므로, 조회 중에 삭제/수정된 도서는 스냅샷보다 이벤트가 최신
+    private int reconciling = 0;
+    private final Set<Long> touchedDuringReconcile = new HashSet<>();
+
+    public BookTitleSuggestIndex(
+            BookRepository bookRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.books.suggest.max-books:200000}") int maxBooks
+    ) {
+        this.bookRepository = bookRepository;
+        this.maxBooks = maxBooks;
+
+        Gauge.builder("books.suggest.index.size", this, index -> index.size)
+                .description("자동완성 색인에 적재된 도서 수")
+                .register(meterRegistry);
+    }
+
+    // 접두어 q 로 시작하는 제목(단어 시작 기준) 최대 limit 건 (제목 시작 일치 → 단어 중간 일치 순, 같은 키는 최신 도서 먼저)
+    public List<BookSuggestResponse.SuggestItem> suggest(String q, int limit) {
+        String normalized = normalize(q);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        boolean choseongOnly = normalized.chars().allMatch(BookTitleSuggestIndex::isCompatibilityConsonant);
+        String key = truncate(choseongOnly ? normalized : decompose(normalized));
+
+        Set<Long> bookIds = new LinkedHashSet<>();
+        if (choseongOnly) {
+            collect(TITLE_CHOSEONG, key, limit, bookIds);
+            collect(WORD_CHOSEONG, key, limit, bookIds);
+        } else {
+            collect(TITLE_JAMO, key, limit, bookIds);
+            collect(WORD_JAMO, key, limit, bookIds);
+        }
+
+        List<BookSuggestResponse.SuggestItem> items = new ArrayList<>(bookIds.size());
+        for (Long bookId : bookIds) {
+            String title = titles.get(bookId);
+            if (title != null) {
+                items.add(new BookSuggestResponse.SuggestItem(bookId, title));
+            }
+        }
+        return items;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+    }
+
+    /**
+     * DB 의 최신 max-books 건과 색인을 다시 맞춘다.
+     *  - 조회 시작 시점의 최대 book_id 이하인데 조회 결과에 없는 도서 → 삭제되었거나 범위 밖 → 제거
+     *  - 제목이 다른 도서 → 다시 색인 (조회 이후 새로 생긴 도서는 그대로 둠)
+     *  - 조회하는 동안 이벤트로 바뀐 도서는 건너뛴다 (스냅샷의 이전 제목으로 되살리지 않음)
+     */
+    @Scheduled(
+            initialDelayString = "${app.books.suggest.reconcile-ms:600000}",
+            fixedDelayString = "${app.books.suggest.reconcile-ms:600000}"
+    )
+    public void reconcile() {
+        long start = System.nanoTime();
+        synchronized (this) {
+            reconciling++;
+        }
+
+        try {
+            long maxBookId = bookRepository.findMaxId();
+
+            Map<Long, String> fresh = new HashMap<>();
+            long lastBookId = Long.MAX_VALUE;
+            while (fresh.size() < maxBooks) {
+                int limit = Math.min(LOAD_CHUNK_SIZE, maxBooks - fresh.size());
+                List<BookTitleView> chunk = bookRepository.findTitlesBefore(lastBookId, PageRequest.of(0, limit));
+                for (BookTitleView view : chunk) {
+                    fresh.put(view.getBookId(), view.getTitle());
+                }
+                if (chunk.size() < limit) {
+                    break;
+                }
+                lastBookId = chunk.get(chunk.size() - 1).getBookId();
+            }
+
+            apply(maxBookId, fresh, start);
+        } finally {
+            synchronized (this) {
+                if (--reconciling == 0) {
+                    touchedDuringReconcile.clear();
+                }
+            }
+        }
+    }
+
+    // 스냅샷 반영 (이벤트 반영과 섞이지 않도록 잠금 안에서)
+    private synchronized void apply(long maxBookId, Map<Long, String> fresh, long start) {
+        int removed = 0;
+        for (Long bookId : titles.keySet()) {
+            if (bookId <= maxBookId && !fresh.containsKey(bookId) && !touchedDuringReconcile.contains(bookId)) {
+                remove(bookId);
+                removed++;
+            }
+        }
+
+        int updated = 0;
+        for (Map.Entry<Long, String> entry : fresh.entrySet()) {
+            if (touchedDuringReconcile.contains(entry.getKey())) {
+                continue;
+            }
+            if (!entry.getValue().equals(titles.get(entry.getKey()))) {
+                put(entry.getKey(), entry.getValue());
+                updated++;
+            }
+        }
+
+        log.info("자동완성 색인 재동기화: 색인 {}건(최대 {}), 갱신 {}건, 제거 {}건, 이벤트 반영분 {}건 제외, {}ms",
+                size, maxBooks, updated, removed, touchedDuringReconcile.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // afterBookId 이후 도서를 ID 순으로 적재 (이미 있는 도서는 제목 기준으로 다시 색인)
+    public void loadAfter(long afterBookId) {
+        long start = System.nanoTime();
+        long lastBookId = afterBookId;
+        int loaded = 0;
+
+        while (true) {
+            List<BookTitleView> chunk = bookRepository.findTitlesAfter(lastBookId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            for (BookTitleView view : chunk) {
+                put(view.getBookId(), view.getTitle());
+            }
+
+            loaded += chunk.size();
+            lastBookId = chunk.get(chunk.size() - 1).getBookId();
+
+            if (chunk.size() < LOAD_CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        log.info("자동완성 색인 적재 완료: afterBookId={}, {}건, {}ms",
+                afterBookId, loaded, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        if (reconciling > 0) {
+            touchedDuringReconcile.add(event.getBookId());
+        }
+        switch (event.getType()) {
+            case CREATED, UPDATED -> put(event.getBookId(), event.getTitle());
+            case DELETED -> remove(event.getBookId());
+        }
+    }
+
+    // 색인 크기 이상 들어왔으면 행마다 적재하지 않고 최신 max-books 건을 다시 적재
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        if (event.getImported() >= maxBooks) {
+            reconcile();
+        } else {
+            loadAfter(event.getAfterBookId());
+        }
+    }
+
+    synchronized void put(Long bookId, String title) {
+        if (bookId == null || title == null) {
+            return;
+        }
+
+        String previous = titles.get(bookId);
+        if (previous != null) {
+            keysOf(bookId, previous).forEach(entries::remove);
+        } else if (size >= maxBooks && bookId < titles.firstKey()) {
+            return; // 색인 범위(최신 max-books 건)보다 오래된 도서
+        }
+
+        keysOf(bookId, title).forEach(k -> entries.put(k, bookId));
+        titles.put(bookId, title);
+
+        if (previous == null) {
+            size++;
+            // 가득 찼으면 가장 오래된 도서부터 제거
+            while (size > maxBooks) {
+                remove(titles.firstKey());
+            }
+        }
+    }
+
+    synchronized void remove(Long bookId) {
+        String previous = titles.remove(bookId);
+        if (previous != null) {
+            keysOf(bookId, previous).forEach(entries::remove);
+            size--;
+        }
+    }
+
+    private void collect(char space, String key, int limit, Set<Long> bookIds) {
+        if (bookIds.size() >= limit) {
+            return;
+        }
+
+        String from = space + key;
+        for (Long bookId : entries.subMap(from, true, from + Character.MAX_VALUE, false).values()) {
+            bookIds.add(bookId);
+            if (bookIds.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    // 도서 한 건의 색인 키 목록: 단어 시작 위치마다 자모 키 + 초성 키
+    private List<String> keysOf(Long bookId, String title) {
+        String suffix = SEPARATOR + String.format("%016x", Long.MAX_VALUE - bookId);
+        String[] words = Normalizer.normalize(title, Normalizer.Form.NFC).trim().split("\\s+");
+
+        List<String> keys = new ArrayList<>();
+        for (int w = 0; w < words.length && w < MAX_WORDS; w++) {
+            String rest = normalize(String.join("", List.of(words).subList(w, words.length)));
+            if (rest.isEmpty()) {
+                continue;
+            }
+
+            keys.add((w == 0 ? TITLE_JAMO : WORD_JAMO) + truncate(decompose(rest)) + suffix);
+            keys.add((w == 0 ? TITLE_CHOSEONG : WORD_CHOSEONG) + truncate(choseong(rest)) + suffix);
+        }
+        return keys;
+    }
+
+    // NFC + 소문자 + 공백 제거
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (!Character.isWhitespace(c) && c != SEPARATOR) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 한글 음절 → 호환 자모 분해 (인 → ㅇㅣㄴ), 그 외 문자는 그대로
+    private static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - 0xAC00;
+                sb.append(CHOSEONG[index / 588])
+                        .append(JUNGSEONG[(index % 588) / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else {
+                sb.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 한글 음절 → 초성 (인공지능 → ㅇㄱㅈㄴ), 그 외 문자는 그대로
+    private static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? CHOSEONG[(c - 0xAC00) / 588] : c);
+        }
+        return sb.toString();
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= 0xAC00 && c <= 0xD7A3;
+    }
+
+    private static boolean isCompatibilityConsonant(int c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.back.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.back.entity.CatalogState;
+import com.example.back.event.BookChangedEvent;
+import com.example.back.event.BooksImportedEvent;
+import com.example.back.repository.CatalogStateRepository;
+
+/**
+ * 도서 카탈로그 버전 (목록/검색 ETag 생성용)
+ *  - 값은 DB(catalog_state) 한 행에 두어 모든 인스턴스가 같은 버전 → 같은 ETag 를 쓴다.
+ *  - 도서 변경 이벤트를 커밋 직전(BEFORE_COMMIT)에 받아 같은 트랜잭션에서 +1 → 커밋되면 다른 인스턴스에도 보인다.
+ *  - 읽기는 ttl-ms 동안 메모리 값을 재사용하고(요청마다 조회하지 않음), 이 인스턴스의 변경은 커밋 직후 바로 다시 읽는다.
+ *    (다른 인스턴스의 변경은 최대 ttl-ms 뒤 반영)
+ */
+@Component
+public class CatalogVersion {
+
+    private final CatalogStateRepository catalogStateRepository;
+    private final long ttlNanos;
+
+    private volatile long version;
+    private volatile long loadedAt;
+    private volatile boolean loaded = false;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CatalogVersion(
+            CatalogStateRepository catalogStateRepository,
+            @Value("${app.cache.catalog-version.ttl-ms:1000}") long ttlMs
+    ) {
+        this.catalogStateRepository = catalogStateRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    public long current() {
+        if (!loaded || System.nanoTime() - loadedAt > ttlNanos) {
+            reload();
+        }
+        return version;
+    }
+
+    // 도서 변경 트랜잭션 안에서 호출 (트랜잭션이 없으면 단독 실행)
+    public void bump() {
+        catalogStateRepository.increment(CatalogState.SINGLETON_ID);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        bump();
+    }
+
+    // 일괄 등록은 chunk 커밋이 끝난 뒤 발행되므로 단독 트랜잭션으로 올림
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        bump();
+    }
+
+    private synchronized void reload() {
+        if (loaded && System.nanoTime() - loadedAt <= ttlNanos) {
+            return; // 다른 요청 스레드가 먼저 읽음
+        }
+        long seen = invalidations.get();
+        version = catalogStateRepository.findVersion(CatalogState.SINGLETON_ID).orElse(0L);
+        loadedAt = System.nanoTime();
+        // 조회 중에 커밋된 변경이 있으면 다음 요청에서 다시 읽음
+        loaded = seen == invalidations.get();
+    }
+
+    private void invalidate() {
+        invalidations.incrementAndGet();
+        loaded = false;
+    }
+}
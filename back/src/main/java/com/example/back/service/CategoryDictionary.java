@@ -0,0 +1,132 @@
+package com.example.back.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.example.back.DTO.ApiResponse;
+import com.example.back.DTO.CategoryItemResponse;
+import com.example.back.repository.CategoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리 사전 (불변 스냅샷)
+ *  - 카테고리는 DataInitializer 가 넣은 뒤 거의 바뀌지 않으므로 메모리에 한 번 적재해 재사용한다.
+ *  - GET /api/categories 응답 JSON 을 미리 직렬화한 byte[] 와 ETag 를 함께 보관한다.
+ *  - 도서 목록의 category_id → 이름 변환도 이 사전을 사용한다. (categories 조인 불필요)
+ *  - 모르는 categoryId 를 만나면 스냅샷을 다시 적재한다. (최소 간격 RELOAD_INTERVAL_MS)
+ */
+@Slf4j
+@Component
+public class CategoryDictionary {
+
+    private static final long RELOAD_INTERVAL_MS = 10_000L;
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    public CategoryDictionary(CategoryRepository categoryRepository, ObjectMapper objectMapper) {
+        this.categoryRepository = categoryRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 불변 스냅샷
+     *  - items    : ID 오름차순 카테고리 목록
+     *  - names    : categoryId → 이름
+     *  - json     : ApiResponse 로 감싼 목록 응답 JSON (UTF-8)
+     *  - etag     : json 의 SHA-256 기반 강한 ETag
+     *  - loadedAt : 적재 시각(ms)
+     */
+    public record Snapshot(
+            List<CategoryItemResponse> items,
+            Map<Long, String> names,
+            byte[] json,
+            String etag,
+            long loadedAt
+    ) {
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null || current.items().isEmpty()) {
+            current = reload(current);
+        }
+        return current;
+    }
+
+    public List<CategoryItemResponse> getItems() {
+        return snapshot().items();
+    }
+
+    public String nameOf(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+
+        Snapshot current = snapshot();
+        String name = current.names().get(categoryId);
+
+        // 사전 적재 이후 추가된 카테고리일 수 있으므로 한 번 다시 적재
+        if (name == null && System.currentTimeMillis() - current.loadedAt() > RELOAD_INTERVAL_MS) {
+            name = reload(current).names().get(categoryId);
+        }
+        return name;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        reload(snapshot);
+    }
+
+    private synchronized Snapshot reload(Snapshot seen) {
+        // 다른 스레드가 이미 다시 적재했다면 그 결과 사용
+        if (snapshot != seen && snapshot != null) {
+            return snapshot;
+        }
+
+        List<CategoryItemResponse> items = categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))
+                .stream()
+                .map(c -> new CategoryItemResponse(c.getId(), c.getName()))
+                .toList();
+
+        Map<Long, String> names = items.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryItemResponse::getCategoryId, CategoryItemResponse::getName));
+
+        byte[] json = serialize(items);
+
+        snapshot = new Snapshot(items, names, json, etagOf(json), System.currentTimeMillis());
+        log.info("카테고리 사전 적재 완료: {}건", items.size());
+        return snapshot;
+    }
+
+    private byte[] serialize(List<CategoryItemResponse> items) {
+        try {
+            return objectMapper.writeValueAsBytes(new ApiResponse<>("success", "카테고리목록조회성공", items));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카테고리 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private String etagOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
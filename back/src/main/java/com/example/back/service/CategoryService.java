@@ -1,10 +1,7 @@
 package com.example.back.service;
 
 import com.example.back.DTO.CategoryItemResponse;
-import com.example.back.entity.Category;
-import com.example.back.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,35 +10,27 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryDictionary categoryDictionary;
 
     public List<CategoryItemResponse> getCategories() {
         /**
          * 카테고리 목록 조회 서비스
          *
          * <동작 개요>
-         * - 데이터베이스에 저장된 모든 카테고리 정보를 ID 기준 오름차순으로 조회한 후,
-         *   클라이언트에 전달할 CategoryItemResponse DTO 형태로 변환하여 반환한다.
-         *
-         * 처리 흐름
-         * 1. CategoryRepository를 통해 전체 카테고리 목록을 ID 오름차순으로 조회한다.
-         * 2. 조회한 Category 엔티티 목록을 CategoryItemResponse DTO 리스트로 변환한다.
-         * 3. 변환된 DTO 리스트를 컨트롤러로 반환한다.
+         * - 메모리에 적재된 카테고리 사전(CategoryDictionary)의 ID 오름차순 목록을 반환한다.
+         * - 카테고리는 거의 바뀌지 않으므로 요청마다 DB 를 조회하지 않는다.
          *
          * @return List<CategoryItemResponse>
          *  - 카테고리 ID와 이름을 포함한 카테고리 목록 데이터
          */
+        return categoryDictionary.getItems();
+    }
 
-        // 1) DB에서 전체 카테고리 조회
-        List<Category> categories =
-                categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
-
-        // 2) Entity -> DTO 변환
-        return categories.stream()
-                .map(c -> new CategoryItemResponse(
-                        c.getId(),   // categoryId
-                        c.getName()  // name
-                ))
-                .toList();
+    public CategoryDictionary.Snapshot getCategorySnapshot() {
+        /**
+         * 카테고리 목록 응답 스냅샷 조회
+         * - 미리 직렬화된 응답 JSON(byte[])과 ETag 를 함께 반환한다.
+         */
+        return categoryDictionary.snapshot();
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.example.back.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 표지 파일 선택 (GET /api/books/cover/{bookId})
+ *  - {bookId}.jpg → {bookId}.png 순으로 찾는다. (WebP/AVIF 변형은 만들지 않으므로 Accept 협상 없음)
+ */
+@Component
+public class CoverFileResolver {
+
+    private final Path coverDir;
+
+    public record CoverFile(Path path, MediaType mediaType) {
+    }
+
+    public CoverFileResolver(@Value("${app.covers.local-path:./back/uploads/bookcovers/}") String coverPath) {
+        this.coverDir = Paths.get(coverPath);
+    }
+
+    public Optional<CoverFile> resolve(Long bookId) {
+        return Stream.of(
+                        new CoverFile(coverDir.resolve(bookId + ".jpg"), MediaType.IMAGE_JPEG),
+                        new CoverFile(coverDir.resolve(bookId + ".png"), MediaType.IMAGE_PNG))
+                .filter(candidate -> Files.isRegularFile(candidate.path()))
+                .findFirst();
+    }
+}
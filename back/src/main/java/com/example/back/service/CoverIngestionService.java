@@ -0,0 +1,320 @@
+package com.example.back.service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.back.entity.Book;
+import com.example.back.entity.CoverJob;
+import com.example.back.entity.CoverStatus;
+import com.example.back.event.BookChangedEvent;
+import com.example.back.repository.BookRepository;
+import com.example.back.repository.CoverJobRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 표지 비동기 저장
+ *  - 도서 등록/수정은 cover_jobs 에 작업만 기록하고 바로 커밋한다. (이미지 다운로드/S3 업로드 동안 DB 커넥션/요청 스레드를 잡지 않음)
+ *  - poll-ms 마다 실행 시각이 된 작업을 빈 스레드 수만큼 선점해 threads 개 작업 스레드에서 처리한다.
+ *  - 실패 시 backoff-ms * 2^(시도-1) 뒤 재시도, max-attempts 를 넘기면 도서 cover_status = FAILED
+ *    (처리 중 인스턴스 종료로 RUNNING 에 멈춘 작업도 시도 횟수를 다 썼으면 재등록하지 않고 FAILED)
+ *  - 성공 시 도서 image_url(+ 썸네일 URL) / cover_status = READY / updated_at 을 갱신하고 BookChangedEvent 발행 (목록/상세 캐시 무효화)
+ *  - S3 key 에 작업 ID 가 들어가므로 커밋 후 이전 표지 객체를 삭제하고, 반영되지 않은 작업(더 최근 작업/도서 삭제)의 객체도 삭제한다.
+ *  - 결과는 작업이 아직 이 시도의 선점 상태(RUNNING + attempts)일 때만 기록한다.
+ *    멈춘 작업으로 재등록된 뒤 늦게 끝난 시도의 결과는 버리고 올린 객체도 삭제한다.
+ *  - 지표: books.cover.jobs(result=ready|retry|failed|superseded|reclaimed), books.cover.jobs.active
+ */
+@Slf4j
+@Service
+public class CoverIngestionService {
+
+    private final CoverJobRepository coverJobRepository;
+    private final BookRepository bookRepository;
+    private final BookCoverStorageService bookCoverStorageService;
+    private final BookDetailCache bookDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long staleMs;
+
+    private final MeterRegistry meterRegistry;
+
+    public CoverIngestionService(
+            CoverJobRepository coverJobRepository,
+            BookRepository bookRepository,
+            BookCoverStorageService bookCoverStorageService,
+            BookDetailCache bookDetailCache,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.covers.jobs.threads:4}") int threads,
+            @Value("${app.covers.jobs.max-attempts:5}") int maxAttempts,
+            @Value("${app.covers.jobs.backoff-ms:2000}") long backoffMs,
+            @Value("${app.covers.jobs.stale-ms:300000}") long staleMs
+    ) {
+        this.coverJobRepository = coverJobRepository;
+        this.bookRepository = bookRepository;
+        this.bookCoverStorageService = bookCoverStorageService;
+        this.bookDetailCache = bookDetailCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.threads = threads;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.staleMs = staleMs;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "cover-worker-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+
+        Gauge.builder("books.cover.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("처리 중인 표지 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 표지 작업 등록 (도서 등록/수정 트랜잭션 안에서 호출)
+     *  - 같은 도서의 대기 중인 이전 작업은 취소하고 새 작업을 기록한다.
+     *  - 도서의 cover_status 는 PENDING (기존 image_url 은 새 표지가 준비될 때까지 유지)
+     */
+    public void enqueue(Book book, String sourceUrl) {
+        coverJobRepository.cancelPending(book.getId(), CoverJob.Status.PENDING, CoverJob.Status.CANCELLED, LocalDateTime.now());
+        CoverJob job = coverJobRepository.save(new CoverJob(book.getId(), sourceUrl));
+        book.setCoverStatus(CoverStatus.PENDING);
+        log.info("표지 작업 등록: jobId={}, bookId={}", job.getId(), book.getId());
+    }
+
+    // 다운로드를 시도할 만한 URL 인지 (http/https + host) — 실제 이미지 여부는 작업에서 확인
+    public boolean isAcceptableSourceUrl(String sourceUrl) {
+        try {
+            URI uri = URI.create(sourceUrl.trim());
+            String scheme = uri.getScheme();
+            return uri.getHost() != null
+                    && ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.covers.jobs.poll-ms:1000}",
+            fixedDelayString = "${app.covers.jobs.poll-ms:1000}"
+    )
+    public void poll() {
+        int capacity = threads - executor.getActiveCount() - executor.getQueue().size();
+        if (capacity <= 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CoverJob> due = coverJobRepository.findDue(CoverJob.Status.PENDING, now, PageRequest.of(0, capacity));
+
+        for (CoverJob job : due) {
+            if (coverJobRepository.claim(job.getId(), CoverJob.Status.PENDING, CoverJob.Status.RUNNING, now) == 0) {
+                continue; // 다른 인스턴스가 먼저 선점
+            }
+            int attempt = job.getAttempts() + 1;
+            executor.execute(() -> process(job.getId(), job.getBookId(), job.getSourceUrl(), attempt));
+        }
+    }
+
+    // 인스턴스 종료 등으로 RUNNING 에 멈춘 작업 복구 (시도 횟수를 다 쓴 작업은 FAILED)
+    @Scheduled(
+            initialDelayString = "${app.covers.jobs.stale-ms:300000}",
+            fixedDelayString = "${app.covers.jobs.stale-ms:300000}"
+    )
+    public void requeueStale() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minus(Duration.ofMillis(staleMs));
+
+        int requeued = coverJobRepository.requeueStale(
+                CoverJob.Status.RUNNING, CoverJob.Status.PENDING, before, maxAttempts, now);
+        if (requeued > 0) {
+            log.warn("멈춘 표지 작업 재등록: {}건", requeued);
+        }
+
+        for (CoverJob job : coverJobRepository.findStaleExhausted(CoverJob.Status.RUNNING, before, maxAttempts)) {
+            giveUpStale(job.getId(), job.getBookId(), job.getAttempts(), before);
+        }
+    }
+
+    private void giveUpStale(Long jobId, Long bookId, int attempts, LocalDateTime before) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int finished = coverJobRepository.finishStale(jobId, CoverJob.Status.RUNNING, CoverJob.Status.FAILED,
+                    before, "처리 중 중단 반복 - 시도 횟수 초과", now);
+            if (finished == 0) {
+                return; // 그 사이 결과가 기록됨
+            }
+            count("failed");
+            log.error("표지 작업 최종 실패 - 처리 중 중단 반복: jobId={}, bookId={}, attempts={}", jobId, bookId, attempts);
+            markBookFailed(jobId, bookId, now);
+        });
+    }
+
+    private void process(Long jobId, Long bookId, String sourceUrl, int attempt) {
+        log.info("표지 작업 시작: jobId={}, bookId={}, attempt={}", jobId, bookId, attempt);
+
+        BookCoverStorageService.StoredCover stored;
+        try {
+            stored = bookCoverStorageService.saveCoverFromUrl(sourceUrl, bookId, jobId);
+        } catch (RuntimeException e) {
+            log.error("표지 작업 오류: jobId={}, bookId={}, error={}", jobId, bookId, e.toString());
+            stored = null;
+        }
+
+        try {
+            if (stored != null) {
+                complete(jobId, bookId, attempt, stored);
+            } else {
+                fail(jobId, bookId, attempt);
+            }
+        } catch (RuntimeException e) {
+            // 결과 기록 실패 → RUNNING 으로 남고 stale-ms 뒤 다시 처리
+            log.error("표지 작업 결과 저장 실패: jobId={}, bookId={}, error={}", jobId, bookId, e.toString());
+        }
+    }
+
+    private void complete(Long jobId, Long bookId, int attempt, BookCoverStorageService.StoredCover stored) {
+        String[] obsolete = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (coverJobRepository.completeClaimed(jobId, CoverJob.Status.RUNNING, CoverJob.Status.DONE, attempt, now) == 0) {
+                log.warn("표지 작업 완료 - 선점이 끝난 시도라 결과 폐기: jobId={}, bookId={}, attempt={}", jobId, bookId, attempt);
+                count("reclaimed");
+                return urlsOf(stored);
+            }
+
+            if (coverJobRepository.existsByBookIdAndIdGreaterThan(bookId, jobId)) {
+                log.info("표지 작업 완료 - 더 최근 작업이 있어 반영 생략: jobId={}, bookId={}", jobId, bookId);
+                count("superseded");
+                return urlsOf(stored);
+            }
+
+            Book book = bookRepository.findWithUserAndCategoryById(bookId).orElse(null);
+            if (book == null) {
+                log.warn("표지 작업 완료 - 도서가 삭제됨: jobId={}, bookId={}", jobId, bookId);
+                return urlsOf(stored);
+            }
+
+            String[] previous = {book.getImageUrl(), book.getThumbnailUrl(), book.getPreviewUrl()};
+            book.setImageUrl(stored.imageUrl());
+            book.setThumbnailUrl(stored.thumbnailUrl());
+            book.setPreviewUrl(stored.previewUrl());
+            book.setCoverStatus(CoverStatus.READY);
+            book.setUpdated_at(now);
+            publishUpdated(book);
+
+            count("ready");
+            log.info("표지 작업 완료: jobId={}, bookId={}, imageUrl={}", jobId, bookId, stored.imageUrl());
+
+            List<String> current = List.of(urlsOf(stored));
+            return Arrays.stream(previous).filter(url -> url != null && !current.contains(url)).toArray(String[]::new);
+        });
+
+        // 커밋된 뒤에만 삭제 (롤백되면 작업이 RUNNING 으로 남아 재처리되고 이전 표지도 그대로 사용됨)
+        if (obsolete != null && obsolete.length > 0) {
+            bookCoverStorageService.deleteCovers(obsolete);
+        }
+    }
+
+    private static String[] urlsOf(BookCoverStorageService.StoredCover stored) {
+        return Stream.of(stored.imageUrl(), stored.thumbnailUrl(), stored.previewUrl())
+                .filter(Objects::nonNull)
+                .toArray(String[]::new);
+    }
+
+    private void fail(Long jobId, Long bookId, int attempt) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            String error = "이미지 다운로드 또는 S3 업로드 실패";
+
+            if (attempt < maxAttempts) {
+                long delayMs = backoffMs << Math.min(attempt - 1, 16);
+                if (coverJobRepository.failClaimed(jobId, CoverJob.Status.RUNNING, CoverJob.Status.PENDING, attempt,
+                        now.plus(Duration.ofMillis(delayMs)), error, now) == 0) {
+                    log.warn("표지 작업 실패 - 선점이 끝난 시도라 결과 폐기: jobId={}, bookId={}, attempt={}", jobId, bookId, attempt);
+                    return;
+                }
+                count("retry");
+                log.warn("표지 작업 실패 - {}ms 뒤 재시도: jobId={}, bookId={}, attempt={}/{}",
+                        delayMs, jobId, bookId, attempt, maxAttempts);
+                return;
+            }
+
+            if (coverJobRepository.failClaimed(jobId, CoverJob.Status.RUNNING, CoverJob.Status.FAILED, attempt,
+                    now, error, now) == 0) {
+                log.warn("표지 작업 실패 - 선점이 끝난 시도라 결과 폐기: jobId={}, bookId={}, attempt={}", jobId, bookId, attempt);
+                return;
+            }
+            count("failed");
+            log.error("표지 작업 최종 실패: jobId={}, bookId={}, attempts={}", jobId, bookId, attempt);
+            markBookFailed(jobId, bookId, now);
+        });
+    }
+
+    // 도서 cover_status = FAILED (더 최근 작업이 있으면 그 작업 결과를 기다림)
+    private void markBookFailed(Long jobId, Long bookId, LocalDateTime now) {
+        if (coverJobRepository.existsByBookIdAndIdGreaterThan(bookId, jobId)) {
+            return;
+        }
+        bookRepository.findWithUserAndCategoryById(bookId).ifPresent(book -> {
+            book.setCoverStatus(CoverStatus.FAILED);
+            book.setUpdated_at(now);
+            publishUpdated(book);
+        });
+    }
+
+    // 상세 캐시 제거 + 목록 ETag/제목 색인 등 도서 변경 리스너에 알림
+    private void publishUpdated(Book book) {
+        Long categoryId = book.getCategoryId().getId();
+        bookDetailCache.evict(book.getId());
+        eventPublisher.publishEvent(BookChangedEvent.updated(book.getId(), categoryId, categoryId, book.getTitle()));
+    }
+
+    private void count(String result) {
+        Counter.builder("books.cover.jobs")
+                .description("처리된 표지 작업 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 처리 중이던 작업은 RUNNING 으로 남고 stale-ms 뒤 다른 인스턴스/재기동 시 다시 처리
+        executor.shutdownNow();
+    }
+}
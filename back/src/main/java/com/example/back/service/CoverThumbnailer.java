@@ -0,0 +1,127 @@
+package com.example.back.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 표지 썸네일 생성 (JDK ImageIO, 외부 라이브러리 없음)
+ *  - 원본 파일을 가장 큰 변형의 2배 정도 해상도로만 디코딩(subsampling)한 뒤 너비별로 축소해 JPEG 로 인코딩한다.
+ *    → 1024x1024 PNG 원본이어도 디코딩 메모리는 변형 크기에 비례
+ *  - 투명 배경(PNG)은 흰색으로 채운다.
+ *  - ImageIO 가 읽지 못하는 형식(WebP/AVIF 원본 등)이면 빈 결과 → 원본만 사용
+ */
+@Slf4j
+@Component
+public class CoverThumbnailer {
+
+    private final float jpegQuality;
+
+    public CoverThumbnailer(@Value("${app.covers.thumbnail.jpeg-quality:0.8}") float jpegQuality) {
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * @param source 원본 이미지 파일
+     * @param widths 만들 너비 목록 (원본보다 크거나 같은 너비는 건너뜀)
+     * @return 너비 -> JPEG 바이트
+     */
+    public Map<Integer, byte[]> render(Path source, int... widths) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                log.info("썸네일 생략 - 읽을 수 없는 이미지 형식: {}", source.getFileName());
+                return Map.of();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+
+                int largest = 0;
+                for (int width : widths) {
+                    if (width < sourceWidth) {
+                        largest = Math.max(largest, width);
+                    }
+                }
+                if (largest == 0) {
+                    return Map.of();
+                }
+
+                // 필요한 해상도(가장 큰 변형의 2배)까지만 픽셀을 건너뛰며 디코딩
+                int step = Math.max(1, sourceWidth / (largest * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                Map<Integer, byte[]> result = new LinkedHashMap<>();
+                for (int width : widths) {
+                    if (width >= sourceWidth) {
+                        continue;
+                    }
+                    int height = Math.max(1, (int) Math.round((double) sourceHeight * width / sourceWidth));
+                    result.put(width, encodeJpeg(scale(decoded, width, height)));
+                }
+                return result;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
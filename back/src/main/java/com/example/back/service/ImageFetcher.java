@@ -0,0 +1,306 @@
+package com.example.back.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원격 이미지 다운로드 (공유 HttpClient + 호스트별 동시 요청 제한)
+ *  - 호스트마다 max-per-host 개까지만 동시에 요청하고, 자리가 없으면 acquire-timeout-ms 만큼 기다린 뒤 실패
+ *    (호스트별 Semaphore 는 대기/사용 중인 요청이 있는 동안만 맵에 두고, 모두 끝나면 제거 → 사용 중에 교체되지 않음)
+ *  - 자리는 응답 본문 스트림을 닫을 때 반환되므로 호출자는 Response 를 반드시 close 해야 한다. (try-with-resources)
+ *  - request-timeout-ms 는 응답 헤더까지만 적용되므로, 본문은 요청 시작부터 body-timeout-ms 가 지나면 감시 스레드가 스트림을 닫는다.
+ *    (바이트를 조금씩 흘려보내는 느린 서버가 작업 스레드/호스트 자리를 무한히 잡지 않도록, 이후 read 는 IOException)
+ *  - 지표: covers.fetch.latency (host, outcome) — 요청 시작부터 응답 헤더 수신까지
+ *    호스트 태그는 처음 보인 metric-hosts 개까지만 쓰고 나머지는 "other" (사용자 입력 URL 로 태그가 무한히 늘지 않도록)
+ */
+@Slf4j
+@Component
+public class ImageFetcher {
+
+    private static final String OTHER_HOST = "other";
+
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+    private final int maxPerHost;
+    private final long acquireTimeoutMs;
+    private final Duration requestTimeout;
+    private final long bodyTimeoutNanos;
+    private final int metricHosts;
+
+    // 호스트 → 자리 (대기/사용 중인 요청이 있는 호스트만)
+    private final ConcurrentHashMap<String, HostPermits> hostPermits = new ConcurrentHashMap<>();
+    private final Set<String> taggedHosts = ConcurrentHashMap.newKeySet();
+
+    // 본문 수신 기한이 지난 스트림을 닫는 감시 스레드
+    private final ScheduledExecutorService bodyWatchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "image-body-watchdog");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * @param status        HTTP 상태 코드 (리다이렉트는 따라간 뒤의 최종 응답)
+     * @param contentType   Content-Type 헤더 (없으면 null)
+     * @param contentLength Content-Length 헤더 (없으면 -1, chunked/HTTP2 응답 등)
+     * @param body          응답 본문 (close 시 호스트 자리 반환)
+     */
+    public record Response(int status, String contentType, long contentLength, InputStream body) implements AutoCloseable {
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+    }
+
+    public ImageFetcher(
+            HttpClient imageHttpClient,
+            MeterRegistry meterRegistry,
+            @Value("${app.covers.http.max-per-host:8}") int maxPerHost,
+            @Value("${app.covers.http.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            @Value("${app.covers.http.request-timeout-ms:15000}") long requestTimeoutMs,
+            @Value("${app.covers.http.body-timeout-ms:30000}") long bodyTimeoutMs,
+            @Value("${app.covers.http.metric-hosts:20}") int metricHosts
+    ) {
+        this.httpClient = imageHttpClient;
+        this.meterRegistry = meterRegistry;
+        this.maxPerHost = maxPerHost;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.bodyTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(bodyTimeoutMs);
+        this.metricHosts = metricHosts;
+    }
+
+    // 동기 다운로드 (표지 작업 스레드용)
+    public Response fetch(String url) throws IOException {
+        try {
+            return fetchAsync(url).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 비동기 다운로드
+     *  - 호스트 자리 확보는 호출 스레드에서 한다. 자리가 없으면 반환 전에 최대 acquire-timeout-ms 동안 호출 스레드가 블로킹되므로
+     *    이벤트 루프 등 블로킹하면 안 되는 스레드에서는 호출하지 않는다. (현재 호출자는 표지 작업 스레드의 fetch 뿐)
+     *  - 응답 헤더를 받으면 완료되며, 본문은 Response.body() 로 스트리밍 (요청 시작 + body-timeout-ms 까지)
+     */
+    public CompletableFuture<Response> fetchAsync(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new IOException("잘못된 URL 입니다: " + url, e));
+        }
+
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        HostPermits permits = hostPermits.compute(host, (h, p) -> {
+            HostPermits current = p == null ? new HostPermits(maxPerHost) : p;
+            current.users++;
+            return current;
+        });
+
+        try {
+            if (!permits.semaphore.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                unref(host, permits);
+                log.warn("이미지 다운로드 대기 시간 초과 - 호스트 동시 요청 한도: host={}, maxPerHost={}", host, maxPerHost);
+                return CompletableFuture.failedFuture(new IOException("호스트 동시 요청 한도 초과: " + host));
+            }
+        } catch (InterruptedException e) {
+            unref(host, permits);
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new IOException("이미지 다운로드 대기 중 중단되었습니다.", e));
+        }
+        Runnable release = () -> {
+            permits.semaphore.release();
+            unref(host, permits);
+        };
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                //  봇 차단(403) 회피용 헤더
+                .header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+                        + "(KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
+                .header("Accept", "image/avif,image/webp,image/apng,image/*,*/*;q=0.8")
+                .header("Accept-Language", "en-US,en;q=0.9")
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<InputStream>> sent;
+        try {
+            sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (RuntimeException e) {
+            release.run();
+            return CompletableFuture.failedFuture(new IOException("이미지 요청 실패: " + url, e));
+        }
+
+        return sent.handle((response, error) -> {
+            String outcome = error != null ? "error" : (response.statusCode() / 100) + "xx";
+            latency(host, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (error != null) {
+                release.run();
+                throw error instanceof CompletionException ce ? ce : new CompletionException(error);
+            }
+
+            long remainingNanos = bodyTimeoutNanos - (System.nanoTime() - start);
+            return new Response(
+                    response.statusCode(),
+                    response.headers().firstValue("Content-Type").orElse(null),
+                    response.headers().firstValueAsLong("Content-Length").orElse(-1L),
+                    new DeadlineInputStream(new PermitReleasingInputStream(response.body(), release), remainingNanos, url)
+            );
+        });
+    }
+
+    // 대기/사용 중인 요청이 모두 끝난 호스트는 맵에서 제거 (같은 호스트의 다음 요청은 새 Semaphore)
+    private void unref(String host, HostPermits permits) {
+        hostPermits.computeIfPresent(host, (h, p) -> p == permits && --p.users == 0 ? null : p);
+    }
+
+    private Timer latency(String host, String outcome) {
+        String tag = taggedHosts.contains(host) || (taggedHosts.size() < metricHosts && taggedHosts.add(host))
+                ? host
+                : OTHER_HOST;
+        return Timer.builder("covers.fetch.latency")
+                .description("원격 이미지 요청 ~ 응답 헤더 수신 시간")
+                .tag("host", tag)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bodyWatchdog.shutdownNow();
+    }
+
+    /**
+     * 본문 수신 기한 적용
+     *  - 기한이 되면 감시 스레드가 스트림을 닫는다. (HttpClient 본문 스트림은 close 시 대기 중인 read 도 깨어남)
+     *  - 기한이 지난 뒤의 read 는 시간 초과 IOException, 먼저 close 하면 감시 작업 취소
+     */
+    private class DeadlineInputStream extends FilterInputStream {
+
+        private final String url;
+        private final AtomicBoolean expired = new AtomicBoolean();
+        private final ScheduledFuture<?> watchdog;
+
+        DeadlineInputStream(InputStream in, long remainingNanos, String url) {
+            super(in);
+            this.url = url;
+            this.watchdog = bodyWatchdog.schedule(this::expire, Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+        }
+
+        private void expire() {
+            expired.set(true);
+            log.warn("이미지 본문 수신 시간 초과 - 연결 종료: url={}", url);
+            try {
+                super.close();
+            } catch (IOException e) {
+                log.debug("시간 초과 스트림 닫기 실패: url={}, err={}", url, e.toString());
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkExpired();
+            try {
+                return super.read();
+            } catch (IOException e) {
+                throw expired.get() ? timedOut(e) : e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkExpired();
+            try {
+                return super.read(b, off, len);
+            } catch (IOException e) {
+                throw expired.get() ? timedOut(e) : e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            watchdog.cancel(false);
+            super.close();
+        }
+
+        private void checkExpired() throws IOException {
+            if (expired.get()) {
+                throw timedOut(null);
+            }
+        }
+
+        private IOException timedOut(IOException cause) {
+            return new IOException("이미지 본문 수신 시간 초과: " + url, cause);
+        }
+    }
+
+    // 호스트별 자리 + 대기/사용 중인 요청 수 (users 는 hostPermits.compute 안에서만 변경)
+    private static class HostPermits {
+
+        private final Semaphore semaphore;
+        private int users;
+
+        HostPermits(int maxPerHost) {
+            this.semaphore = new Semaphore(maxPerHost);
+        }
+    }
+
+    // 본문을 닫을 때 호스트 자리를 한 번만 반환
+    private static class PermitReleasingInputStream extends FilterInputStream {
+
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingInputStream(InputStream in, Runnable release) {
+            super(in);
+            this.release = release;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    release.run();
+                }
+            }
+        }
+    }
+}
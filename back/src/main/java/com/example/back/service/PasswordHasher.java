@@ -0,0 +1,154 @@
+package com.example.back.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기
+ *  - 로그인/회원가입/회원정보 수정/탈퇴의 BCrypt 연산을 Tomcat 요청 스레드가 아닌 전용 스레드(threads)에서 실행한다.
+ *  - 대기열(queue-capacity)이 가득 차면 기다리지 않고 바로 503(Retry-After) 응답 → 로그인 폭주가 도서 조회 CPU 를 잠식하지 않음
+ *  - 대기열에서 timeout-ms 안에 처리되지 않아도 503
+ *  - 호출 측은 트랜잭션(DB 커넥션)을 잡은 채로 호출하지 않는다 (open-in-view=false, AuthService 는 해시 후 짧은 트랜잭션)
+ *  - 지표: auth.hashing.queue.size, auth.hashing.active, auth.hashing.duration(op=encode|matches), auth.hashing.rejected
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.hashing.threads:2}") int threads,
+            @Value("${app.auth.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.auth.hashing.timeout-ms:5000}") long timeoutMs
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hasher-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("auth.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시 실행 중 스레드 수")
+                .register(meterRegistry);
+
+        this.encodeTimer = Timer.builder("auth.hashing.duration").tag("op", "encode")
+                .description("비밀번호 해시 연산 시간 (대기 제외)")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.hashing.duration").tag("op", "matches")
+                .description("비밀번호 해시 연산 시간 (대기 제외)")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.hashing.rejected")
+                .description("대기열 초과/시간 초과로 거절된 해시 요청 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해시 실행기 초기화: threads={}, queueCapacity={}, timeoutMs={}", threads, queueCapacity, timeoutMs);
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Boolean result = execute(() -> timed(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        return Boolean.TRUE.equals(result);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 거절 - 대기열 가득 참: queue={}", executor.getQueue().size());
+            throw busy();
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            log.warn("비밀번호 해시 거절 - 시간 초과: timeoutMs={}", timeoutMs);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    // 해시 연산 시간만 기록 (대기열 대기 시간 제외)
+    private static <T> T timed(Timer timer, Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 503 + Retry-After: 1
+    private static ResponseStatusException busy() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, BUSY_MESSAGE) {
+            @Override
+            public HttpHeaders getHeaders() {
+                HttpHeaders headers = new HttpHeaders();
+                headers.set(HttpHeaders.RETRY_AFTER, "1");
+                return headers;
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
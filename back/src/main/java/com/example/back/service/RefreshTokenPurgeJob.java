@@ -0,0 +1,120 @@
+package com.example.back.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 Refresh Token 정기 정리
+ *  - cron(기본 새벽 4:30)마다 expiry 가 지난 행을 (expiry, id) keyset 으로 chunk-size 건씩 조회해 삭제한다.
+ *  - chunk 마다 별도 트랜잭션(auto-commit)이고 사이에 pause-ms 만큼 쉬므로 큰 DELETE 로 테이블이 오래 잠기지 않는다.
+ *  - max-runtime-ms 를 넘기면 남은 행은 다음 실행으로 넘긴다. (피크 시간대까지 이어지지 않도록)
+ *  - 실행 내내 스케줄러 스레드 하나를 잡으므로 spring.task.scheduling.pool.size 를 2 이상으로 둔다. (다른 @Scheduled 작업이 밀리지 않도록)
+ *  - 지표: auth.refresh-token.purge.rows(삭제 건수), auth.refresh-token.purge.duration(실행 시간)
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurgeJob {
+
+    private static final String SELECT_EXPIRED =
+            "SELECT id, expiry FROM refresh_token "
+                    + "WHERE expiry < ? AND (expiry > ? OR (expiry = ? AND id > ?)) "
+                    + "ORDER BY expiry, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final long maxRuntimeMs;
+
+    private final Counter purgedRows;
+    private final Timer duration;
+
+    public RefreshTokenPurgeJob(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.refresh-token-purge.chunk-size:500}") int chunkSize,
+            @Value("${app.auth.refresh-token-purge.pause-ms:200}") long pauseMs,
+            @Value("${app.auth.refresh-token-purge.max-runtime-ms:600000}") long maxRuntimeMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.maxRuntimeMs = maxRuntimeMs;
+
+        this.purgedRows = Counter.builder("auth.refresh-token.purge.rows")
+                .description("정리된 만료 Refresh Token 수")
+                .register(meterRegistry);
+        this.duration = Timer.builder("auth.refresh-token.purge.duration")
+                .description("만료 Refresh Token 정리 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.auth.refresh-token-purge.cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxRuntimeMs);
+
+        long lastExpiry = Long.MIN_VALUE;
+        long lastId = 0L;
+        long purged = 0;
+
+        log.info("만료 Refresh Token 정리 시작: chunkSize={}, pauseMs={}", chunkSize, pauseMs);
+
+        try {
+            while (true) {
+                List<long[]> chunk = jdbcTemplate.query(SELECT_EXPIRED,
+                        (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                        now, lastExpiry, lastExpiry, lastId, chunkSize);
+
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                // 조회 후 다시 로그인해 갱신된 행은 expiry 조건으로 제외
+                Object[] args = new Object[chunk.size() + 1];
+                for (int i = 0; i < chunk.size(); i++) {
+                    args[i] = chunk.get(i)[0];
+                }
+                args[chunk.size()] = now;
+
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                int deleted = jdbcTemplate.update(
+                        "DELETE FROM refresh_token WHERE id IN (" + placeholders + ") AND expiry < ?", args);
+
+                purged += deleted;
+                purgedRows.increment(deleted);
+
+                long[] last = chunk.get(chunk.size() - 1);
+                lastExpiry = last[1];
+                lastId = last[0];
+
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+                if (System.nanoTime() > deadline) {
+                    log.warn("만료 Refresh Token 정리 중단 - 최대 실행 시간 초과: {}건 삭제, 나머지는 다음 실행에서 처리", purged);
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("만료 Refresh Token 정리 중단: {}건 삭제", purged);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            duration.record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("만료 Refresh Token 정리 완료: {}건 삭제, {}ms", purged, elapsed / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.back.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 시딩용 도서/사용자 데이터 생성기
+ *  - 한국어 어휘 + 문형 템플릿으로 실제 제목과 비슷한 분포의 제목/설명/내용을 만든다. (조사 은/는, 을/를, 와/과 처리)
+ *  - 카테고리와 작성자는 Zipf 분포로 골라 일부 카테고리/작성자에 도서가 몰리도록 한다.
+ *  - 같은 Random 시드면 같은 결과가 나오므로 chunk 단위로 다시 만들어도 내용이 같다.
+ */
+class SeedBookGenerator {
+
+    private static final String[] ADJECTIVES = {
+            "작은", "푸른", "조용한", "낯선", "오래된", "따뜻한", "마지막", "느린", "빛나는", "사라진",
+            "이상한", "평범한", "눈부신", "차가운", "다정한", "붉은", "하얀", "깊은", "가벼운", "외로운"
+    };
+
+    private static final String[] NOUNS = {
+            "바다", "고양이", "우주", "기억", "도시", "여름", "편지", "기차", "숲", "별",
+            "시간", "꿈", "마음", "바람", "골목", "식탁", "정원", "섬", "등대", "서점",
+            "노래", "그림자", "약속", "계절", "파도", "달빛", "새벽", "소년", "소녀", "할머니",
+            "여행자", "우체국", "비밀", "겨울", "봄날", "방", "창문", "거울", "지도", "일기"
+    };
+
+    private static final String[] PLACES = {
+            "서울", "부산", "제주", "강릉", "전주", "경주", "파리", "도쿄", "리스본", "교토",
+            "바르셀로나", "시골 마을", "작은 섬", "옥탑방", "도서관"
+    };
+
+    private static final String[] TOPICS = {
+            "인공지능", "머신러닝", "데이터베이스", "클라우드", "쿠버네티스", "스프링 부트", "자바", "파이썬",
+            "웹 개발", "보안", "알고리즘", "투자", "경제학", "마케팅", "글쓰기", "요리", "사진", "명상",
+            "영어 회화", "재테크"
+    };
+
+    private static final String[] RECORDS = {
+            "기록", "일기", "편지", "고백", "산책", "하루", "여행", "안부"
+    };
+
+    private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] NAME_SYLLABLES = {
+            "민", "서", "지", "현", "우", "준", "윤", "하", "은", "수", "연", "도", "진", "유", "아", "재", "호", "린", "빈", "율"
+    };
+
+    private final double[] categoryCdf;
+    private final long[] categoryIds;
+    private final double[] userCdf;
+    private final List<String> userIds;
+
+    /**
+     * @param categoryIds 카테고리 ID 목록 (시드로 섞은 순서가 인기 순위)
+     * @param userIds     작성자 ID 목록
+     * @param seed        분포 순위를 정하는 시드
+     */
+    SeedBookGenerator(List<Long> categoryIds, List<String> userIds, long seed) {
+        List<Long> ranked = new ArrayList<>(categoryIds);
+        Collections.shuffle(ranked, new Random(seed));
+
+        this.categoryIds = ranked.stream().mapToLong(Long::longValue).toArray();
+        this.categoryCdf = zipfCdf(ranked.size(), 1.1);
+
+        this.userIds = List.copyOf(userIds);
+        this.userCdf = zipfCdf(userIds.size(), 0.8);
+    }
+
+    long pickCategory(Random random) {
+        return categoryIds[pick(categoryCdf, random)];
+    }
+
+    String pickUser(Random random) {
+        return userIds.get(pick(userCdf, random));
+    }
+
+    String title(Random random) {
+        String adj = pickOf(ADJECTIVES, random);
+        String noun = pickOf(NOUNS, random);
+        String other = pickOf(NOUNS, random);
+        String topic = pickOf(TOPICS, random);
+
+        return switch (random.nextInt(12)) {
+            case 0 -> adj + " " + noun;
+            case 1 -> noun + "의 " + other;
+            case 2 -> noun + withJosa(noun, "와", "과") + " " + other;
+            case 3 -> pickOf(PLACES, random) + "에서 보낸 " + (2 + random.nextInt(365)) + "일";
+            case 4 -> noun + withJosa(noun, "를", "을") + " 찾아서";
+            case 5 -> adj + " " + noun + "의 " + other;
+            case 6 -> noun + "에 관한 " + (3 + random.nextInt(98)) + "가지 이야기";
+            case 7 -> "처음 만나는 " + topic;
+            case 8 -> "실전 " + topic + " " + (1 + random.nextInt(3)) + "판";
+            case 9 -> topic + ", 이렇게 시작하세요";
+            case 10 -> pickOf(PLACES, random) + "의 " + noun;
+            default -> "어느 " + noun + "의 " + pickOf(RECORDS, random);
+        };
+    }
+
+    String description(Random random) {
+        String noun = pickOf(NOUNS, random);
+        return pickOf(ADJECTIVES, random) + " " + noun + withJosa(noun, "를", "을")
+                + " 둘러싼 " + pickOf(NOUNS, random) + "의 이야기.";
+    }
+
+    String content(Random random) {
+        int sentences = 3 + random.nextInt(6);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            String noun = pickOf(NOUNS, random);
+            String place = pickOf(PLACES, random);
+            sb.append(switch (random.nextInt(4)) {
+                case 0 -> place + "의 " + pickOf(ADJECTIVES, random) + " " + noun + withJosa(noun, "는", "은") + " 오늘도 그 자리에 있었다.";
+                case 1 -> "우리는 " + noun + withJosa(noun, "를", "을") + " 따라 " + place + "까지 걸었다.";
+                case 2 -> pickOf(TOPICS, random) + "에 대해 알아야 할 것은 생각보다 많지 않다.";
+                default -> "그날의 " + noun + withJosa(noun, "는", "은") + " 아직도 기억에 남아 있다.";
+            });
+            sb.append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    // 성 1글자 + 이름 2글자
+    static String koreanName(Random random) {
+        return pickOf(LAST_NAMES, random) + pickOf(NAME_SYLLABLES, random) + pickOf(NAME_SYLLABLES, random);
+    }
+
+    // 마지막 글자 받침 유무에 따라 조사 선택 (받침 없으면 withoutFinal)
+    private static String withJosa(String word, String withoutFinal, String withFinal) {
+        char last = word.charAt(word.length() - 1);
+        boolean hasFinal = last >= 0xAC00 && last <= 0xD7A3 && (last - 0xAC00) % 28 != 0;
+        return hasFinal ? withFinal : withoutFinal;
+    }
+
+    private static String pickOf(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // 순위 k(1부터)의 가중치 1/k^s 누적 분포
+    private static double[] zipfCdf(int size, double s) {
+        double[] cdf = new double[size];
+        double sum = 0;
+        for (int k = 0; k < size; k++) {
+            sum += 1.0 / Math.pow(k + 1, s);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < size; k++) {
+            cdf[k] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, Random random) {
+        int idx = Arrays.binarySearch(cdf, random.nextDouble());
+        idx = idx >= 0 ? idx : -idx - 1;
+        return Math.min(idx, cdf.length - 1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.back;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.back.config.SeedProfile;
+import com.example.back.service.BookSeedService;
+
+/**
+ * 시딩 프로필 변경 검증 (SMALL 로 기동한 DB 에 MEDIUM 시딩)
+ *  - chunk-size=400 → SMALL(100건)은 덜 찬 chunk 0 하나만 남긴다.
+ *  - MEDIUM 은 기존 100건을 그대로 두고 chunk 0 의 나머지 300건 + 이후 chunk 를 넣어 정확히 10만 건이 된다.
+ *  - 다시 실행하거나 작은 프로필로 돌아가도 더 넣지 않는다.
+ */
+@SpringBootTest(properties = "app.seed.chunk-size=400")
+@ActiveProfiles("test")
+class BookSeedProfileSwitchTest {
+
+    private static final String FIRST_TITLES = "SELECT title FROM books WHERE book_id <= 100 ORDER BY book_id";
+
+    @Autowired
+    private BookSeedService bookSeedService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void switchingFromSmallToMediumResumesOnExistingRows() {
+        assertThat(bookCount()).isEqualTo(SeedProfile.SMALL.getBooks());
+        List<String> smallTitles = jdbcTemplate.queryForList(FIRST_TITLES, String.class);
+
+        bookSeedService.seed(SeedProfile.MEDIUM);
+
+        assertThat(bookCount()).isEqualTo(SeedProfile.MEDIUM.getBooks());
+        assertThat(jdbcTemplate.queryForList(FIRST_TITLES, String.class)).isEqualTo(smallTitles);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(book_count) FROM seed_chunks WHERE chunk_no = 0", Long.class)).isEqualTo(400L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(book_count) FROM seed_chunks", Long.class)).isEqualTo(SeedProfile.MEDIUM.getBooks());
+
+        bookSeedService.seed(SeedProfile.MEDIUM);
+        bookSeedService.seed(SeedProfile.SMALL);
+
+        assertThat(bookCount()).isEqualTo(SeedProfile.MEDIUM.getBooks());
+    }
+
+    private long bookCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books", Long.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.back;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.back.DTO.BookSuggestResponse;
+import com.example.back.event.BookChangedEvent;
+import com.example.back.repository.BookRepository;
+import com.example.back.repository.BookTitleView;
+import com.example.back.service.BookTitleSuggestIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 자동완성 색인 재동기화와 이벤트가 겹칠 때 검증 (BookRepository 는 mock, Spring 컨텍스트 없음)
+ *  - 재동기화가 DB 를 읽는 도중 삭제/수정 이벤트가 오면, 이전 스냅샷으로 되살리지 않는다.
+ *  - 이벤트가 없는 도서는 스냅샷대로 반영된다.
+ */
+class BookTitleSuggestIndexTest {
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookTitleSuggestIndex index = new BookTitleSuggestIndex(bookRepository, new SimpleMeterRegistry(), 100);
+
+    @Test
+    void bookDeletedDuringReconcileStaysRemoved() {
+        index.onBookChanged(BookChangedEvent.created(1L, 1L, "자바 입문"));
+        index.onBookChanged(BookChangedEvent.created(2L, 1L, "삭제될 책"));
+        index.onBookChanged(BookChangedEvent.created(3L, 1L, "옛 제목"));
+
+        // 스냅샷을 읽는 동안 2번 삭제, 3번 제목 수정 (스냅샷에는 이전 상태가 담김)
+        when(bookRepository.findMaxId()).thenReturn(3L);
+        when(bookRepository.findTitlesBefore(anyLong(), any())).thenAnswer(invocation -> {
+            index.onBookChanged(BookChangedEvent.deleted(2L, 1L));
+            index.onBookChanged(BookChangedEvent.updated(3L, 1L, 1L, "새 제목"));
+            return List.of(view(3L, "옛 제목"), view(2L, "삭제될 책"), view(1L, "자바 기초"));
+        });
+
+        index.reconcile();
+
+        assertThat(index.suggest("삭제", 10)).isEmpty();
+        assertThat(index.suggest("옛", 10)).isEmpty();
+        assertThat(bookIds(index.suggest("새", 10))).containsExactly(3L);
+        // 이벤트가 없던 도서는 스냅샷 반영
+        assertThat(bookIds(index.suggest("자바 기초", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void nextReconcileAppliesSnapshotAgain() {
+        index.onBookChanged(BookChangedEvent.created(1L, 1L, "자바 입문"));
+
+        when(bookRepository.findMaxId()).thenReturn(1L);
+        when(bookRepository.findTitlesBefore(anyLong(), any())).thenAnswer(invocation -> {
+            index.onBookChanged(BookChangedEvent.updated(1L, 1L, 1L, "자바 심화"));
+            return List.of(view(1L, "자바 입문"));
+        });
+        index.reconcile();
+        assertThat(bookIds(index.suggest("자바 심화", 10))).containsExactly(1L);
+
+        // 이번 재동기화 중에는 이벤트가 없음 → DB(다른 인스턴스의 수정) 기준으로 반영
+        when(bookRepository.findTitlesBefore(anyLong(), any())).thenReturn(List.of(view(1L, "자바 완성")));
+        index.reconcile();
+        assertThat(bookIds(index.suggest("자바 완성", 10))).containsExactly(1L);
+        assertThat(index.suggest("자바 심화", 10)).isEmpty();
+    }
+
+    private static List<Long> bookIds(List<BookSuggestResponse.SuggestItem> items) {
+        return items.stream().map(BookSuggestResponse.SuggestItem::getBookId).toList();
+    }
+
+    private static BookTitleView view(Long bookId, String title) {
+        return new BookTitleView() {
+            @Override
+            public Long getBookId() {
+                return bookId;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.back;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * 표지 파일 응답 검증 (GET /api/books/cover/{bookId})
+ *  - 임시 디렉터리를 app.covers.local-path 로 지정하고 {bookId}.jpg 를 만들어 둔다.
+ *  - 200 + 검증자(ETag/Last-Modified), 304, Range 206, If-Range, 416
+ *  - MockMvc 에는 sendfile 이 없으므로 FileChannel.transferTo 경로로 본문이 기록된다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CoverResponseTest {
+
+    private static final long BOOK_ID = 990001L;
+    private static final byte[] COVER = new byte[1000];
+    private static final Path COVER_DIR = createCoverDir();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void coverPath(DynamicPropertyRegistry registry) {
+        registry.add("app.covers.local-path", () -> COVER_DIR.toString());
+    }
+
+    @BeforeAll
+    static void writeCover() throws IOException {
+        for (int i = 0; i < COVER.length; i++) {
+            COVER[i] = (byte) i;
+        }
+        Files.write(COVER_DIR.resolve(BOOK_ID + ".jpg"), COVER);
+    }
+
+    @Test
+    void returnsWholeFileWithValidators() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/books/cover/{bookId}", BOOK_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.IMAGE_JPEG))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().doesNotExist(HttpHeaders.VARY))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(COVER);
+    }
+
+    @Test
+    void returnsNotModifiedForMatchingETag() throws Exception {
+        String etag = currentETag();
+
+        MvcResult result = mockMvc.perform(get("/api/books/cover/{bookId}", BOOK_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void returnsRequestedRange() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/books/cover/{bookId}", BOOK_ID)
+                        .header(HttpHeaders.RANGE, "bytes=0-99"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-99/1000"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andReturn();
+        assertThat(first.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(COVER, 0, 100));
+
+        // 마지막 100바이트 (suffix range)
+        MvcResult last = mockMvc.perform(get("/api/books/cover/{bookId}", BOOK_ID)
+                        .header(HttpHeaders.RANGE, "bytes=-100"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 900-999/1000"))
+                .andReturn();
+        assertThat(last.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(COVER, 900, 1000));
+    }
+
+    @Test
+    void appliesRangeOnlyWhenIfRangeMatches() throws Exception {
+        String etag = currentETag();
+
+        mockMvc.perform(get("/api/books/cover/{bookId}", BOOK_ID)
+                        .header(HttpHeaders.RANGE, "bytes=100-199")
+                        .header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/1000"));
+
+        // 이전 버전의 ETag → Range 무시하고 전체 응답
+        MvcResult stale = mockMvc.perform(get("/api/books/cover/{bookId}", BOOK_ID)
+                        .header(HttpHeaders.RANGE, "bytes=100-199")
+                        .header(HttpHeaders.IF_RANGE, "\"jpeg-0-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andReturn();
+        assertThat(stale.getResponse().getContentAsByteArray()).isEqualTo(COVER);
+    }
+
+    @Test
+    void rejectsUnsatisfiableRanges() throws Exception {
+        for (String range : new String[]{"bytes=1000-1100", "bytes=-0"}) {
+            MvcResult result = mockMvc.perform(get("/api/books/cover/{bookId}", BOOK_ID)
+                            .header(HttpHeaders.RANGE, range))
+                    .andExpect(status().isRequestedRangeNotSatisfiable())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */1000"))
+                    .andReturn();
+            assertThat(result.getResponse().getContentAsByteArray()).as(range).isEmpty();
+        }
+    }
+
+    @Test
+    void returnsNotFoundWithoutCoverFile() throws Exception {
+        mockMvc.perform(get("/api/books/cover/{bookId}", BOOK_ID + 1))
+                .andExpect(status().isNotFound());
+    }
+
+    private String currentETag() throws Exception {
+        return mockMvc.perform(get("/api/books/cover/{bookId}", BOOK_ID))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+
+    private static Path createCoverDir() {
+        try {
+            Path dir = Files.createTempDirectory("covers-");
+            dir.toFile().deleteOnExit();
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.back;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.back.service.CoverThumbnailer;
+
+/**
+ * CoverThumbnailer 검증 (임시 디렉터리에 만든 원본 이미지 사용, Spring 컨텍스트 없음)
+ *  - 너비별 축소 + 비율 유지, 원본보다 크거나 같은 너비는 생략
+ *  - 투명 배경은 흰색으로 채움
+ *  - subsampling 으로 줄여 읽어도 결과 크기는 정확히 요청 너비
+ *  - 읽을 수 없는 파일은 빈 결과
+ */
+class CoverThumbnailerTest {
+
+    private final CoverThumbnailer thumbnailer = new CoverThumbnailer(0.8f);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void scalesToEachWidthKeepingAspectRatio() throws IOException {
+        Path source = writePng("cover.png", new BufferedImage(1000, 1500, BufferedImage.TYPE_INT_RGB));
+
+        Map<Integer, byte[]> rendered = thumbnailer.render(source, 200, 400);
+
+        assertThat(rendered).containsOnlyKeys(200, 400);
+        assertSize(rendered.get(200), 200, 300);
+        assertSize(rendered.get(400), 400, 600);
+    }
+
+    @Test
+    void skipsWidthsNotSmallerThanSource() throws IOException {
+        Path source = writePng("small.png", new BufferedImage(300, 450, BufferedImage.TYPE_INT_RGB));
+
+        assertThat(thumbnailer.render(source, 200, 400)).containsOnlyKeys(200);
+        assertThat(thumbnailer.render(source, 300, 400)).isEmpty();
+    }
+
+    @Test
+    void flattensTransparencyOntoWhite() throws IOException {
+        // 완전히 투명한 PNG → JPEG 에서는 흰색
+        Path source = writePng("alpha.png", new BufferedImage(800, 800, BufferedImage.TYPE_INT_ARGB));
+
+        BufferedImage thumbnail = decode(thumbnailer.render(source, 200).get(200));
+
+        Color center = new Color(thumbnail.getRGB(100, 100));
+        assertThat(center.getRed()).isGreaterThanOrEqualTo(250);
+        assertThat(center.getGreen()).isGreaterThanOrEqualTo(250);
+        assertThat(center.getBlue()).isGreaterThanOrEqualTo(250);
+    }
+
+    @Test
+    void subsampledDecodeStillProducesExactSizes() throws IOException {
+        // 가장 큰 변형의 2배보다 큰 원본 → 건너뛰며 읽음 (step = 4001 / 800 = 5, 홀수 크기)
+        Path large = writePng("large.png", new BufferedImage(4001, 1333, BufferedImage.TYPE_INT_RGB));
+        Map<Integer, byte[]> rendered = thumbnailer.render(large, 200, 400);
+        assertSize(rendered.get(200), 200, 67);
+        assertSize(rendered.get(400), 400, 133);
+
+        // 아주 납작한 원본도 높이는 최소 1px
+        Path thin = writePng("thin.png", new BufferedImage(3000, 1, BufferedImage.TYPE_INT_RGB));
+        assertSize(thumbnailer.render(thin, 200).get(200), 200, 1);
+    }
+
+    @Test
+    void returnsEmptyForUnreadableInput() throws IOException {
+        Path text = Files.writeString(dir.resolve("not-an-image.webp"), "<html>blocked</html>", StandardCharsets.UTF_8);
+        Path empty = Files.createFile(dir.resolve("empty.png"));
+
+        assertThat(thumbnailer.render(text, 200, 400)).isEmpty();
+        assertThat(thumbnailer.render(empty, 200, 400)).isEmpty();
+    }
+
+    private Path writePng(String name, BufferedImage image) throws IOException {
+        Path path = dir.resolve(name);
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+
+    private static BufferedImage decode(byte[] jpeg) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(jpeg));
+    }
+
+    private static void assertSize(byte[] jpeg, int width, int height) throws IOException {
+        BufferedImage image = decode(jpeg);
+        assertThat(image.getWidth()).isEqualTo(width);
+        assertThat(image.getHeight()).isEqualTo(height);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.back;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.back.config.ImageHttpClientConfig;
+import com.example.back.service.ImageFetcher;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ImageFetcher 검증 (로컬 스텁 이미지 서버 사용, 외부 네트워크/Spring 컨텍스트 없음)
+ *  - /fixed   : Content-Length 가 있는 이미지 응답
+ *  - /chunked : Content-Length 없는(chunked) 이미지 응답
+ *  - /slow    : 헤더는 바로 보내고 본문을 1바이트씩 천천히 흘려보내는 응답
+ *  - 요청마다 클라이언트 포트를 기록해 연결 재사용 여부를 확인한다.
+ */
+class ImageFetcherTest {
+
+    private static final byte[] IMAGE = new byte[64 * 1024];
+
+    private HttpServer origin;
+    private String baseUrl;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        origin = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        origin.createContext("/fixed", exchange -> respond(exchange, IMAGE.length));
+        origin.createContext("/chunked", exchange -> respond(exchange, 0));
+        origin.createContext("/slow", this::drip);
+        origin.start();
+        baseUrl = "http://127.0.0.1:" + origin.getAddress().getPort();
+
+        httpClient = new ImageHttpClientConfig().imageHttpClient(2000);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        origin.stop(0);
+    }
+
+    @Test
+    void reusesConnectionForSameHost() throws IOException {
+        ImageFetcher fetcher = new ImageFetcher(httpClient, meterRegistry, 8, 1000, 5000, 30000, 20);
+
+        for (int i = 0; i < 6; i++) {
+            String path = i % 2 == 0 ? "/fixed" : "/chunked";
+            try (ImageFetcher.Response response = fetcher.fetch(baseUrl + path)) {
+                assertThat(response.status()).isEqualTo(200);
+                assertThat(response.contentType()).isEqualTo("image/png");
+                assertThat(response.contentLength()).isEqualTo(i % 2 == 0 ? IMAGE.length : -1L);
+                assertThat(response.body().readAllBytes()).hasSize(IMAGE.length);
+            }
+        }
+
+        // 요청 6건이 keep-alive 연결 하나로 처리됨
+        assertThat(clientPorts).hasSize(1);
+
+        // 호스트별 지연시간 지표
+        assertThat(meterRegistry.get("covers.fetch.latency")
+                .tag("host", "127.0.0.1")
+                .tag("outcome", "2xx")
+                .timer()
+                .count()).isEqualTo(6);
+    }
+
+    @Test
+    void limitsConcurrentRequestsPerHost() throws IOException {
+        ImageFetcher fetcher = new ImageFetcher(httpClient, meterRegistry, 1, 100, 5000, 30000, 20);
+
+        try (ImageFetcher.Response first = fetcher.fetch(baseUrl + "/fixed")) {
+            // 첫 응답 본문을 닫기 전까지 같은 호스트 자리가 없음
+            assertThatThrownBy(() -> fetcher.fetch(baseUrl + "/fixed"))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("동시 요청 한도");
+            // 대기하다 실패한 요청이 호스트 자리를 지우지 않음 (사용 중인 자리가 남아 있으므로 계속 한도 적용)
+            assertThatThrownBy(() -> fetcher.fetch(baseUrl + "/fixed"))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("동시 요청 한도");
+            first.body().readAllBytes();
+        }
+
+        // 닫은 뒤에는 다시 요청 가능
+        try (ImageFetcher.Response again = fetcher.fetch(baseUrl + "/fixed")) {
+            assertThat(again.status()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void abortsSlowBodyAtDeadline() throws IOException {
+        ImageFetcher fetcher = new ImageFetcher(httpClient, meterRegistry, 1, 100, 5000, 500, 20);
+
+        long start = System.nanoTime();
+        try (ImageFetcher.Response response = fetcher.fetch(baseUrl + "/slow")) {
+            assertThat(response.status()).isEqualTo(200);
+            assertThatThrownBy(() -> response.body().readAllBytes())
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("본문 수신 시간 초과");
+        }
+        // 서버는 20초 넘게 흘려보내지만 본문 기한(500ms) 부근에서 중단
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+
+        // 기한 초과로 닫힌 뒤 호스트 자리가 반환되어 다시 요청 가능
+        try (ImageFetcher.Response again = fetcher.fetch(baseUrl + "/fixed")) {
+            assertThat(again.status()).isEqualTo(200);
+        }
+    }
+
+    private void respond(HttpExchange exchange, long contentLength) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getResponseHeaders().set("Content-Type", "image/png");
+        exchange.sendResponseHeaders(200, contentLength);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(IMAGE);
+        }
+    }
+
+    // 200ms 마다 1바이트 (클라이언트가 연결을 끊으면 쓰기 실패로 종료)
+    private void drip(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "image/png");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < 100; i++) {
+                out.write(IMAGE[i]);
+                out.flush();
+                Thread.sleep(200);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 연결 종료
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.back;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.back.service.RefreshTokenPurgeJob;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 만료 Refresh Token 정리가 다른 @Scheduled 작업을 막지 않는지 검증
+ *  - @Scheduled 작업과 같은 TaskScheduler 에서 정리를 실행하고, chunk 사이 pause 동안 다른 작업이 바로 실행되는지 확인
+ *  - chunk-size=1, pause-ms=1500 인 정리 작업을 따로 만들어 만료 토큰 3건을 천천히 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenPurgeSchedulingTest {
+
+    private static final String COUNT_TOKENS =
+            "SELECT COUNT(*) FROM refresh_token WHERE user_id LIKE 'purge-sched-%'";
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void otherScheduledTaskRunsWhilePurgeIsPausing() throws Exception {
+        long expired = System.currentTimeMillis() - 60_000;
+        for (int i = 0; i < 3; i++) {
+            String userId = "purge-sched-" + i;
+            jdbcTemplate.update("INSERT INTO users (id, pw, name) VALUES (?, ?, ?)", userId, "x", userId);
+            jdbcTemplate.update("INSERT INTO refresh_token (user_id, token, expiry) VALUES (?, ?, ?)", userId, "t" + i, expired);
+        }
+
+        RefreshTokenPurgeJob purgeJob = new RefreshTokenPurgeJob(jdbcTemplate, new SimpleMeterRegistry(), 1, 1500, 60_000);
+        taskScheduler.schedule(purgeJob::purgeExpired, Instant.now());
+
+        // 첫 chunk 삭제 후 pause 중
+        waitForTokens(2, 5_000);
+
+        CountDownLatch other = new CountDownLatch(1);
+        taskScheduler.schedule(other::countDown, Instant.now());
+
+        assertThat(other.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(tokenCount()).isPositive();
+
+        // 정리는 이어서 끝까지 진행
+        waitForTokens(0, 10_000);
+    }
+
+    private void waitForTokens(long expected, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (tokenCount() > expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(tokenCount()).isLessThanOrEqualTo(expected);
+    }
+
+    private long tokenCount() {
+        return jdbcTemplate.queryForObject(COUNT_TOKENS, Long.class);
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.back;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.example.back.entity.Book;
+import com.example.back.entity.Category;
+import com.example.back.entity.User;
+import com.example.back.jwt.JwtUtil;
+import com.example.back.repository.BookRepository;
+import com.example.back.repository.CategoryRepository;
+import com.example.back.repository.UserRepository;
+import com.example.back.service.CatalogVersion;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 검증
+ *  - Hibernate Statistics(prepareStatementCount)로 요청 1건당 실행된 SQL 수를 센다.
+ *  - 상한을 넘으면(N+1 회귀 등) 빌드가 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // 카탈로그 버전(목록 ETag)은 ttl-ms 동안 메모리 값 재사용 → 미리 읽어 두고 목록 쿼리 수만 센다
+        catalogVersion.current();
+    }
+
+    @Test
+    void bookListUsesSingleQueryWithCachedTotal() throws Exception {
+        // 목록 조회만 (전체 건수는 BookCountCache)
+        assertStatements(1, () -> mockMvc.perform(get("/api/books").param("page", "1").param("size", "20")));
+    }
+
+    @Test
+    void bookListCursorModeUsesSingleQuery() throws Exception {
+        assertStatements(1, () -> mockMvc.perform(get("/api/books").param("after", "").param("size", "20")));
+    }
+
+    @Test
+    void categoryListUsesSingleQueryWithCachedCount() throws Exception {
+        Long categoryId = categoryRepository.findAll().get(0).getId();
+
+        assertStatements(1, () -> mockMvc.perform(get("/api/books")
+                .param("categoryId", String.valueOf(categoryId)).param("size", "20")));
+        assertStatements(1, () -> mockMvc.perform(get("/api/books")
+                .param("categoryId", String.valueOf(categoryId)).param("after", "").param("size", "20")));
+    }
+
+    @Test
+    void titleSearchUsesPageAndCountQueriesOnly() throws Exception {
+        assertStatements(2, () -> mockMvc.perform(get("/api/books/search").param("title", "더미").param("size", "20")));
+    }
+
+    @Test
+    void titleSearchWithoutCountUsesSingleQuery() throws Exception {
+        assertStatements(1, () -> mockMvc.perform(get("/api/books/search")
+                .param("title", "더미").param("size", "20").param("count", "false")));
+    }
+
+    @Test
+    void titleSuggestDoesNotTouchDatabase() throws Exception {
+        assertStatements(0, () -> mockMvc.perform(get("/api/books/suggest").param("q", "더미")));
+        assertStatements(0, () -> mockMvc.perform(get("/api/books/suggest").param("q", "ㄷㅁ")));
+    }
+
+    @Test
+    void bookDetailUsesSingleJoinedQueryThenCache() throws Exception {
+        Book book = newBook();
+
+        // 캐시 미스: 도서 + 작성자 + 카테고리 한 번에
+        assertStatements(1, () -> mockMvc.perform(get("/api/books/detail/{bookId}", book.getId())));
+
+        // 캐시 적중: DB 접근 없음
+        assertStatements(0, () -> mockMvc.perform(get("/api/books/detail/{bookId}", book.getId())));
+    }
+
+    @Test
+    void bookBatchUsesSingleInQueryThenCache() throws Exception {
+        String ids = newBook().getId() + "," + newBook().getId() + "," + newBook().getId() + ",-1";
+
+        // 캐시 미스: WHERE book_id IN (...) 한 번
+        assertStatements(1, () -> mockMvc.perform(get("/api/books/batch").param("ids", ids)));
+
+        // 조회된 도서는 캐시 적중, 없는 도서(-1)만 다시 조회
+        assertStatements(1, () -> mockMvc.perform(get("/api/books/batch").param("ids", ids)));
+    }
+
+    @Test
+    void bookUpdateDoesNotLoadAssociationsSeparately() throws Exception {
+        Book book = newBook();
+        String body = String.format(
+                "{\"title\":\"수정된 제목\",\"description\":\"설명\",\"content\":\"내용\",\"categoryId\":%d}",
+                book.getCategoryId().getId());
+
+        // 사용자 조회, 도서(+작성자/카테고리) 조회, 카테고리 조회, UPDATE, 카탈로그 버전 +1
+        assertStatements(5, () -> mockMvc.perform(put("/api/books/update/{bookId}", book.getId())
+                .header("Authorization", "Bearer " + jwtUtil.createAccessToken("admin"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body)));
+    }
+
+    @Test
+    void bookDeleteDoesNotLoadAssociationsSeparately() throws Exception {
+        Book book = newBook();
+
+        // 도서(+작성자/카테고리) 조회, DELETE, 카탈로그 버전 +1
+        assertStatements(3, () -> mockMvc.perform(delete("/api/books/delete/{bookId}", book.getId())
+                .header("Authorization", "Bearer " + jwtUtil.createAccessToken("admin"))));
+    }
+
+    @Test
+    void loginUpsertsRefreshTokenAndRefreshReadsItOnce() throws Exception {
+        // 사용자 조회, Refresh Token upsert
+        statistics.clear();
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"admin\",\"pw\":\"admin\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(statistics.getPrepareStatementCount()).as("SQL statement count").isLessThanOrEqualTo(2);
+
+        // 재발급은 저장된 Refresh Token 을 user_id 로 한 번만 조회
+        Cookie refreshCookie = login.getResponse().getCookie("refreshToken");
+        assertThat(refreshCookie).isNotNull();
+        assertStatements(1, () -> mockMvc.perform(post("/api/auth/token/refresh").cookie(refreshCookie)));
+    }
+
+    // 요청 1건을 실행하고 SQL 실행 횟수가 상한 이하인지 검증
+    private void assertStatements(long maxStatements, Request request) throws Exception {
+        statistics.clear();
+
+        request.perform().andExpect(status().is2xxSuccessful());
+
+        long executed = statistics.getPrepareStatementCount();
+        assertThat(executed)
+                .as("SQL statement count")
+                .isLessThanOrEqualTo(maxStatements);
+    }
+
+    // 이미지 없이 저장된 테스트용 도서 (S3 호출 없이 수정/삭제 가능)
+    private Book newBook() {
+        User admin = userRepository.findById("admin").orElseThrow();
+        Category category = categoryRepository.findAll().get(0);
+
+        Book book = new Book();
+        book.setUser(admin);
+        book.setCategoryId(category);
+        book.setTitle("쿼리 수 테스트 도서");
+        book.setDescription("설명");
+        book.setContent("내용");
+        return bookRepository.save(book);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        ResultActions perform() throws Exception;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.back;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 제목 검색 벤치마크 (LIKE '%term%' vs FULLTEXT ngram)
+ *  - 기본 빌드에서는 실행되지 않으며, MySQL 접속 정보를 넘길 때만 실행된다.
+ *  - 별도 테이블(bench_book_titles)을 10k → 100k → 1M → 10M 행으로 키워가며 단계별 지연시간을 출력한다.
+ *
+ * 실행 예:
+ *   ./gradlew test --tests '*TitleSearchBenchmarkTest' \
+ *     -Dbench.mysql.url='jdbc:mysql://localhost:3306/library?rewriteBatchedStatements=true' \
+ *     -Dbench.mysql.user=root -Dbench.mysql.password=secret -Dbench.max-rows=10000000
+ */
+@EnabledIfSystemProperty(named = "bench.mysql.url", matches = ".+")
+class TitleSearchBenchmarkTest {
+
+    private static final String TABLE = "bench_book_titles";
+    private static final long[] STEPS = {10_000L, 100_000L, 1_000_000L, 10_000_000L};
+    private static final String[] TERMS = {"인공지능", "여행", "데이터베이스", "고양이 일기", "클라우드"};
+    private static final int RUNS = 30;
+
+    private static final String[] WORDS = {
+            "인공지능", "여행", "고양이", "일기", "데이터베이스", "클라우드", "보안", "서울", "바다", "우주",
+            "요리", "역사", "경제", "마음", "겨울", "봄날", "개발자", "프로그래밍", "게임", "음악",
+            "건강", "습관", "도시", "숲속", "기차", "편지", "시간", "기억", "미래", "모험"
+    };
+
+    @Test
+    void benchmarkTitleSearch() throws SQLException {
+        String url = System.getProperty("bench.mysql.url");
+        String user = System.getProperty("bench.mysql.user", "root");
+        String password = System.getProperty("bench.mysql.password", "");
+        long maxRows = Long.getLong("bench.max-rows", 10_000_000L);
+
+        try (Connection con = DriverManager.getConnection(url, user, password)) {
+            try (Statement st = con.createStatement()) {
+                st.execute("DROP TABLE IF EXISTS " + TABLE);
+                st.execute("CREATE TABLE " + TABLE + " ("
+                        + "book_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                        + "title VARCHAR(100) NOT NULL"
+                        + ") DEFAULT CHARSET = utf8mb4");
+            }
+
+            Random random = new Random(42);
+            long rows = 0;
+
+            System.out.printf("%-10s %-16s %10s %10s %10s%n", "rows", "term", "like p50", "ft p50", "ft p99");
+
+            for (long step : STEPS) {
+                if (step > maxRows) {
+                    break;
+                }
+
+                // 인덱스를 유지한 채 대량 적재하면 느리므로 단계마다 삭제 → 적재 → 재생성
+                dropIndexIfExists(con);
+                rows = insertTitles(con, random, rows, step);
+
+                long indexStart = System.nanoTime();
+                try (Statement st = con.createStatement()) {
+                    st.execute("ALTER TABLE " + TABLE + " ADD FULLTEXT INDEX ft_bench_title (title) WITH PARSER ngram");
+                }
+                System.out.printf("-- %d rows loaded, FULLTEXT build %.1f s%n", rows, (System.nanoTime() - indexStart) / 1e9);
+
+                for (String term : TERMS) {
+                    double[] like = measure(con,
+                            "SELECT book_id, title FROM " + TABLE
+                                    + " WHERE LOWER(title) LIKE ? ORDER BY book_id DESC LIMIT 10",
+                            "%" + term + "%");
+                    double[] fullText = measure(con,
+                            "SELECT book_id, title FROM " + TABLE
+                                    + " WHERE MATCH(title) AGAINST(? IN BOOLEAN MODE) ORDER BY book_id DESC LIMIT 10",
+                            "\"" + term + "\"");
+
+                    System.out.printf("%-10d %-16s %8.2fms %8.2fms %8.2fms%n",
+                            rows, term, percentile(like, 50), percentile(fullText, 50), percentile(fullText, 99));
+                }
+            }
+
+            try (Statement st = con.createStatement()) {
+                st.execute("DROP TABLE IF EXISTS " + TABLE);
+            }
+        }
+    }
+
+    private long insertTitles(Connection con, Random random, long from, long to) throws SQLException {
+        boolean autoCommit = con.getAutoCommit();
+        con.setAutoCommit(false);
+
+        try (PreparedStatement ps = con.prepareStatement("INSERT INTO " + TABLE + " (title) VALUES (?)")) {
+            for (long i = from; i < to; i++) {
+                ps.setString(1, randomTitle(random, i));
+                ps.addBatch();
+
+                if ((i + 1) % 5_000 == 0) {
+                    ps.executeBatch();
+                    con.commit();
+                }
+            }
+            ps.executeBatch();
+            con.commit();
+        } finally {
+            con.setAutoCommit(autoCommit);
+        }
+        return to;
+    }
+
+    private String randomTitle(Random random, long seq) {
+        int words = 2 + random.nextInt(3);
+        List<String> parts = new ArrayList<>(words + 1);
+        for (int w = 0; w < words; w++) {
+            parts.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        parts.add(String.valueOf(seq));
+        return String.join(" ", parts);
+    }
+
+    private void dropIndexIfExists(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = 'ft_bench_title'")) {
+            ps.setString(1, TABLE);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                if (rs.getInt(1) == 0) {
+                    return;
+                }
+            }
+        }
+        try (Statement st = con.createStatement()) {
+            st.execute("ALTER TABLE " + TABLE + " DROP INDEX ft_bench_title");
+        }
+    }
+
+    private double[] measure(Connection con, String sql, String param) throws SQLException {
+        double[] millis = new double[RUNS];
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            for (int r = 0; r < RUNS; r++) {
+                ps.setString(1, param);
+                long start = System.nanoTime();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getLong(1);
+                    }
+                }
+                millis[r] = (System.nanoTime() - start) / 1e6;
+            }
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    private double percentile(double[] sorted, int p) {
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.back;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.back.entity.RevokedToken;
+import com.example.back.entity.User;
+import com.example.back.jwt.JwtUtil;
+import com.example.back.jwt.JwtVerifier;
+import com.example.back.jwt.TokenRevocationList;
+import com.example.back.repository.RevokedTokenRepository;
+import com.example.back.repository.UserRepository;
+
+/**
+ * 폐기된 Access Token 거부 검증
+ *  - 로그아웃한 토큰은 만료 전이라도 인증 API 에서 401
+ *  - 다른 인스턴스가 늦게 커밋한 폐기 기록(이전 revoked_at)도 동기화 시 반영
+ *  - 이미 DB 에 폐기 기록이 있는 토큰으로 로그아웃해도 중복 INSERT 오류(500) 없음
+ *  - 테스트마다 다른 사용자로 토큰을 만든다. (같은 초에 같은 사용자로 만든 토큰은 동일 → 다른 테스트에 영향)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenRevocationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JwtVerifier jwtVerifier;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Test
+    void loggedOutAccessTokenIsRejected() throws Exception {
+        saveUser("revoke-logout");
+
+        String authorization = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"revoke-logout\",\"pw\":\"pw\"}"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("Authorization");
+        assertThat(authorization).startsWith("Bearer ");
+
+        mockMvc.perform(get("/api/auth/user-info").header("Authorization", authorization))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", authorization))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/auth/user-info").header("Authorization", authorization))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void doubleLogoutDoesNotFail() throws Exception {
+        saveUser("revoke-double");
+
+        String authorization = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"revoke-double\",\"pw\":\"pw\"}"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("Authorization");
+        String digest = digestOf(authorization.substring("Bearer ".length()));
+
+        // 다른 인스턴스(또는 동시에 들어온 로그아웃)가 먼저 폐기했지만 아직 동기화 전
+        revokedTokenRepository.save(new RevokedToken(digest, System.currentTimeMillis() + 60_000));
+
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", authorization))
+                .andExpect(status().isOk());
+        assertThat(revokedTokenRepository.findAll())
+                .filteredOn(r -> r.getTokenDigest().equals(digest))
+                .hasSize(1);
+
+        // 같은 토큰으로 다시 로그아웃 → 이미 폐기된 토큰 (500 아님)
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", authorization))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void lateCommittedRevocationFromAnotherInstanceIsSynced() throws Exception {
+        saveUser("revoke-sync");
+        String token = jwtUtil.createAccessToken("revoke-sync");
+
+        revocationList.sync();
+
+        // 다른 인스턴스가 동기화 직전에 시작해 늦게 커밋한 폐기 기록
+        RevokedToken late = new RevokedToken(digestOf(token), System.currentTimeMillis() + 60_000);
+        late.setRevokedAt(LocalDateTime.now().minusSeconds(10));
+        revokedTokenRepository.save(late);
+
+        revocationList.sync();
+
+        assertThat(jwtVerifier.isRevoked(token)).isTrue();
+        mockMvc.perform(get("/api/auth/user-info").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private void saveUser(String id) {
+        User user = new User();
+        user.setId(id);
+        user.setPw(passwordEncoder.encode("pw"));
+        user.setName(id);
+        userRepository.save(user);
+    }
+
+    // JwtVerifier 와 같은 다이제스트 (SHA-256, base64url)
+    private static String digestOf(String token) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+}